@@ -0,0 +1,46 @@
+package org.peace.blog.benchmark;
+
+import org.peace.blog.entity.Post;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 게시글 데이터 생성
+ */
+final class PostBenchmarkData {
+
+    private PostBenchmarkData() {
+    }
+
+    /**
+     * 생성일시가 무작위 순서인 게시글 목록
+     */
+    static List<Post> posts(int count, int contentLength) {
+        Random random = new Random(42);
+        String content = "가".repeat(contentLength);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = base.plusMinutes(random.nextInt(525_600));
+            posts.add(Post.builder()
+                .id((long) i)
+                .title("게시글 제목 " + i)
+                .content(content)
+                .summary("요약 " + i)
+                .username("admin")
+                .status("PUBLISHED")
+                .category("dev")
+                .tags(new String[]{"java", "spring", "webflux"})
+                .viewCount(random.nextInt(10_000))
+                .commentEnabled(true)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .publishedAt(createdAt)
+                .build());
+        }
+        return posts;
+    }
+}
@@ -0,0 +1,59 @@
+package org.peace.blog.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.peace.blog.entity.Post;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 정렬 경로 벤치마크
+ * - sortInMemory: 정렬되지 않은 게시글 Flux를 모두 모은 뒤 애플리케이션에서 생성일시 역순으로 정렬
+ * - preOrdered: findByStatusOrderByCreatedAtDesc 처럼 DB가 정렬한 결과를 그대로 전달
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostOrderingBenchmark {
+
+    private static final Comparator<Post> NEWEST_FIRST =
+        (p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt());
+
+    @Param({"100", "1000", "10000"})
+    private int postCount;
+
+    private List<Post> unordered;
+    private List<Post> ordered;
+
+    @Setup
+    public void setUp() {
+        unordered = PostBenchmarkData.posts(postCount, 200);
+        ordered = new ArrayList<>(unordered);
+        ordered.sort(NEWEST_FIRST);
+    }
+
+    @Benchmark
+    public List<Post> sortInMemory() {
+        return Flux.fromIterable(unordered)
+            .sort(NEWEST_FIRST)
+            .collectList()
+            .block();
+    }
+
+    @Benchmark
+    public List<Post> preOrdered() {
+        return Flux.fromIterable(ordered)
+            .collectList()
+            .block();
+    }
+}
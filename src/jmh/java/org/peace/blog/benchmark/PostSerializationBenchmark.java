@@ -0,0 +1,47 @@
+package org.peace.blog.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.peace.blog.entity.Post;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 JSON 직렬화 벤치마크
+ * - GET /posts 응답 크기(게시글 수 x 본문 길이)에 따른 Jackson 비용
+ * - ObjectMapper는 Spring Boot와 같은 Jackson2ObjectMapperBuilder 기본 설정 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int postCount;
+
+    @Param({"200", "5000"})
+    private int contentLength;
+
+    private ObjectMapper objectMapper;
+    private List<Post> posts;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        posts = PostBenchmarkData.posts(postCount, contentLength);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(posts);
+    }
+}
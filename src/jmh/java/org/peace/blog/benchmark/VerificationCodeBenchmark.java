@@ -0,0 +1,40 @@
+package org.peace.blog.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.peace.blog.util.VerificationCodeGenerator;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증번호 생성 벤치마크
+ * - perCallSecureRandom: 호출마다 SecureRandom을 만들고 자릿수마다 난수를 뽑던 이전 방식
+ * - sharedGenerator: VerificationCodeGenerator (SecureRandom 재사용, 난수 1회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VerificationCodeBenchmark {
+
+    private final VerificationCodeGenerator generator = new VerificationCodeGenerator();
+
+    @Benchmark
+    public String perCallSecureRandom() {
+        SecureRandom random = new SecureRandom();
+        StringBuilder code = new StringBuilder();
+        for (int i = 0; i < 6; i++) {
+            code.append(random.nextInt(10));
+        }
+        return code.toString();
+    }
+
+    @Benchmark
+    public String sharedGenerator() {
+        return generator.generate();
+    }
+}
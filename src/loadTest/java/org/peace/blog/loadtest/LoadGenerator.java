@@ -0,0 +1,173 @@
+package org.peace.blog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.http.HttpMethod;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.peace.blog.model.PostCreateRequest;
+import org.peace.blog.model.PostUpdateRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 도착률 부하 생성기 (open model)
+ * - 응답을 기다리지 않고 정해진 간격으로 요청을 시작하므로, 서버가 느려지면 대기 시간이 그대로 지연에 반영됨
+ * - 지연은 "요청을 보냈어야 할 시각"부터 측정 (coordinated omission 보정)
+ */
+final class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ConnectionProvider connectionProvider;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Operation[] weightedOperations;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    LoadGenerator(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.connectionProvider = ConnectionProvider.builder("loadtest")
+            .maxConnections(config.maxConnections())
+            .pendingAcquireMaxCount(-1)
+            .build();
+        this.client = HttpClient.create(connectionProvider)
+            .responseTimeout(RESPONSE_TIMEOUT)
+            .headers(headers -> headers.set("Content-Type", "application/json"));
+
+        List<Operation> operations = new ArrayList<>();
+        config.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        this.weightedOperations = operations.toArray(Operation[]::new);
+
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * duration 동안 rate로 요청 실행
+     * @return 작업별 결과 (측정 구간만)
+     */
+    LoadReport run(Duration duration) {
+        // 이전 구간(워밍업) 기록 버리기
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long total = duration.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+        AtomicLong issued = new AtomicLong();
+
+        Flux.interval(Duration.ofMillis(1), Schedulers.single())
+            .takeWhile(tick -> issued.get() < total)
+            .concatMapIterable(tick -> {
+                long due = Math.min(total, (System.nanoTime() - start) / intervalNanos + 1);
+                List<Long> intendedStarts = new ArrayList<>();
+                for (long i = issued.get(); i < due; i++) {
+                    intendedStarts.add(start + i * intervalNanos);
+                }
+                issued.set(due);
+                return intendedStarts;
+            })
+            .flatMap(intendedStart -> execute(nextOperation(), intendedStart), Integer.MAX_VALUE)
+            .then()
+            .block(duration.plus(RESPONSE_TIMEOUT).plusSeconds(10));
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        Map<Operation, LoadReport.OperationResult> results = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long errorCount = errors.get(operation).sum();
+            if (histogram.getTotalCount() > 0 || errorCount > 0) {
+                results.put(operation, LoadReport.OperationResult.of(histogram, errorCount, elapsedSeconds));
+            }
+        }
+        return new LoadReport(config, elapsedSeconds, results);
+    }
+
+    private Operation nextOperation() {
+        return weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+    }
+
+    private Mono<Void> execute(Operation operation, long intendedStart) {
+        return send(operation)
+            .onErrorReturn(-1)
+            .doOnNext(status -> {
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                recorders.get(operation).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                if (status < 200 || status >= 400) {
+                    errors.get(operation).increment();
+                }
+            })
+            .then();
+    }
+
+    /**
+     * 요청 전송 후 본문을 모두 읽고 상태 코드 반환
+     */
+    private Mono<Integer> send(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long postId = random.nextLong(1, config.posts() + 1);
+        return switch (operation) {
+            case DETAIL -> request(HttpMethod.GET, "/posts/" + postId, null);
+            case FEED -> request(HttpMethod.GET, "/posts/author/user" + random.nextInt(1, config.users() + 1), null);
+            case PUBLISHED -> request(HttpMethod.GET, "/posts/published", null);
+            case CREATE -> request(HttpMethod.POST, "/posts", PostCreateRequest.builder()
+                .title("부하 테스트 게시글")
+                .content("가".repeat(config.contentLength()))
+                .username("user" + random.nextInt(1, config.users() + 1))
+                .status("PUBLISHED")
+                .category("category" + random.nextInt(100))
+                .tags(new String[]{"loadtest"})
+                .commentEnabled(true)
+                .build());
+            case UPDATE -> request(HttpMethod.PUT, "/posts/" + postId, PostUpdateRequest.builder()
+                .title("수정된 게시글 " + postId)
+                .content("나".repeat(config.contentLength()))
+                .category("category" + random.nextInt(100))
+                .tags(new String[]{"loadtest", "updated"})
+                .commentEnabled(true)
+                .build());
+        };
+    }
+
+    private Mono<Integer> request(HttpMethod method, String path, Object body) {
+        HttpClient.RequestSender sender = client.request(method).uri(baseUrl + path);
+        HttpClient.ResponseReceiver<?> receiver = body == null
+            ? sender
+            : sender.send(ByteBufFlux.fromString(Mono.fromCallable(() -> objectMapper.writeValueAsString(body)),
+                StandardCharsets.UTF_8, ByteBufAllocator.DEFAULT));
+        return receiver
+            .responseSingle((response, content) -> content.then(Mono.just(response.status().code())));
+    }
+
+    void close() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,68 @@
+package org.peace.blog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과
+ * - 콘솔 표 출력 + JSON 파일 저장 (기능 작업 전/후 비교용)
+ */
+record LoadReport(LoadTestConfig config, double elapsedSeconds, Map<Operation, OperationResult> operations) {
+
+    /**
+     * 작업별 결과 (지연 단위: ms)
+     */
+    record OperationResult(long count, long errors, double throughput,
+                           double p50, double p90, double p99, double p999, double max) {
+
+        static OperationResult of(Histogram histogram, long errors, double elapsedSeconds) {
+            return new OperationResult(
+                histogram.getTotalCount(),
+                errors,
+                histogram.getTotalCount() / elapsedSeconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    void print() {
+        System.out.printf("%n=== Load test: rate=%d req/s, duration=%.1fs, posts=%d ===%n",
+            config.rate(), elapsedSeconds, config.posts());
+        System.out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+            "operation", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        operations.forEach((operation, r) -> System.out.printf(
+            "%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            operation.name().toLowerCase(), r.count(), r.errors(), r.throughput(),
+            r.p50(), r.p90(), r.p99(), r.p999(), r.max()));
+    }
+
+    void write(Path file) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("rate", config.rate());
+        json.put("posts", config.posts());
+        json.put("users", config.users());
+        json.put("mix", config.mix());
+        json.put("elapsedSeconds", elapsedSeconds);
+        json.put("operations", operations);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), json);
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,74 @@
+package org.peace.blog.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티, Gradle에서는 -Ploadtest.xxx=값)
+ *
+ * @param targetUrl 이미 떠 있는 서버 주소 (비우면 PeaceBlogApplication을 직접 기동)
+ * @param r2dbcUrl 사용할 PostgreSQL (비우면 Testcontainers로 기동)
+ * @param seed 데이터 생성 여부 (기존 DB를 재사용할 때 false)
+ * @param users 생성할 사용자 수
+ * @param posts 생성할 게시글 수
+ * @param contentLength 게시글 본문 길이
+ * @param rate 초당 요청 수 (고정 도착률)
+ * @param warmup 측정 전 워밍업 시간
+ * @param duration 측정 시간
+ * @param maxConnections 클라이언트 최대 연결 수
+ * @param mix 작업별 비율
+ * @param reportFile JSON 결과 파일 경로
+ */
+record LoadTestConfig(String targetUrl,
+                      String r2dbcUrl,
+                      String r2dbcUsername,
+                      String r2dbcPassword,
+                      boolean seed,
+                      int users,
+                      int posts,
+                      int contentLength,
+                      int rate,
+                      Duration warmup,
+                      Duration duration,
+                      int maxConnections,
+                      Map<Operation, Integer> mix,
+                      String reportFile) {
+
+    static LoadTestConfig fromSystemProperties() {
+        int posts = Integer.getInteger("loadtest.posts", 10_000);
+        return new LoadTestConfig(
+            System.getProperty("loadtest.target-url", ""),
+            System.getProperty("loadtest.r2dbc-url", ""),
+            System.getProperty("loadtest.r2dbc-username", "postgres"),
+            System.getProperty("loadtest.r2dbc-password", "postgres"),
+            Boolean.parseBoolean(System.getProperty("loadtest.seed", "true")),
+            Integer.getInteger("loadtest.users", Math.max(1, posts / 100)),
+            posts,
+            Integer.getInteger("loadtest.content-length", 2_000),
+            Integer.getInteger("loadtest.rate", 200),
+            Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s").toUpperCase()),
+            Duration.parse("PT" + System.getProperty("loadtest.duration", "60s").toUpperCase()),
+            Integer.getInteger("loadtest.max-connections", 256),
+            parseMix(System.getProperty("loadtest.mix", "detail=70,feed=20,create=5,update=5")),
+            System.getProperty("loadtest.report", "build/reports/loadtest/result.json"));
+    }
+
+    /**
+     * "detail=70,feed=20,create=5,update=5" 형식
+     */
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix에 비율이 0보다 큰 작업이 없습니다: " + value);
+        }
+        return mix;
+    }
+}
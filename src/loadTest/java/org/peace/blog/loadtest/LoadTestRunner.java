@@ -0,0 +1,114 @@
+package org.peace.blog.loadtest;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.peace.blog.PeaceBlogApplication;
+import org.peace.blog.support.PostgresTestSchema;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행기
+ * ./gradlew loadTest -Ploadtest.posts=100000 -Ploadtest.rate=500 -Ploadtest.duration=60s
+ *
+ * 1. PostgreSQL 준비 (loadtest.r2dbc-url이 없으면 Testcontainers로 기동)
+ * 2. 스키마 생성 + generate_series로 게시글 대량 생성
+ * 3. PeaceBlogApplication 기동 (loadtest.target-url이 있으면 그 서버 사용)
+ * 4. 워밍업 후 고정 도착률로 혼합 부하 실행, 지연 백분위/처리량 출력 및 JSON 저장
+ */
+public final class LoadTestRunner {
+
+    private static final String POSTGRES_IMAGE = "postgres:16-alpine";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        PostgreSQLContainer<?> postgres = null;
+        ConfigurableApplicationContext application = null;
+        LoadGenerator generator = null;
+        try {
+            String r2dbcUrl = config.r2dbcUrl();
+            String username = config.r2dbcUsername();
+            String password = config.r2dbcPassword();
+            if (r2dbcUrl.isBlank() && config.targetUrl().isBlank()) {
+                postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE)
+                    .withCommand("postgres", "-c", "max_connections=200", "-c", "shared_buffers=256MB");
+                postgres.start();
+                r2dbcUrl = "r2dbc:postgresql://" + postgres.getHost() + ":"
+                    + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName();
+                username = postgres.getUsername();
+                password = postgres.getPassword();
+            }
+
+            if (config.seed() && !r2dbcUrl.isBlank()) {
+                seed(config, r2dbcUrl, username, password);
+            }
+
+            String baseUrl = config.targetUrl();
+            if (baseUrl.isBlank()) {
+                application = startApplication(r2dbcUrl, username, password);
+                baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port")
+                    + application.getEnvironment().getProperty("spring.webflux.base-path", "");
+            }
+            System.out.println("Target: " + baseUrl);
+
+            generator = new LoadGenerator(config, baseUrl);
+            if (!config.warmup().isZero()) {
+                System.out.println("Warming up for " + config.warmup().toSeconds() + "s...");
+                generator.run(config.warmup());
+            }
+            System.out.println("Measuring for " + config.duration().toSeconds() + "s...");
+            LoadReport report = generator.run(config.duration());
+            report.print();
+            report.write(Path.of(config.reportFile()));
+        } finally {
+            if (generator != null) {
+                generator.close();
+            }
+            if (application != null) {
+                application.close();
+            }
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static void seed(LoadTestConfig config, String r2dbcUrl, String username, String password) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(r2dbcUrl)
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build());
+
+        long start = System.nanoTime();
+        System.out.printf("Seeding %d users, %d posts...%n", config.users(), config.posts());
+        PostgresTestSchema.apply(connectionFactory)
+            .then(PostgresTestSchema.seed(connectionFactory, config.users(), config.posts(), config.contentLength()))
+            .block(Duration.ofMinutes(30));
+        System.out.printf("Seeded in %.1fs%n", (System.nanoTime() - start) / 1e9);
+    }
+
+    private static ConfigurableApplicationContext startApplication(String r2dbcUrl, String username, String password) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.r2dbc.url", r2dbcUrl);
+        properties.put("spring.r2dbc.username", username);
+        properties.put("spring.r2dbc.password", password);
+        properties.put("spring.r2dbc.pool.max-size", 50);
+        properties.put("logging.level.org.peace.blog", "WARN");
+        return new SpringApplicationBuilder(PeaceBlogApplication.class)
+            .properties(properties)
+            .run();
+    }
+}
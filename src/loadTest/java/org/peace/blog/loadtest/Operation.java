@@ -0,0 +1,17 @@
+package org.peace.blog.loadtest;
+
+/**
+ * 부하 테스트 작업 종류
+ */
+enum Operation {
+    /** 게시글 상세 조회 (GET /posts/{id}, 조회수 증가) */
+    DETAIL,
+    /** 작성자 피드 (GET /posts/author/{username}) */
+    FEED,
+    /** 발행 게시글 전체 목록 (GET /posts/published) */
+    PUBLISHED,
+    /** 게시글 작성 (POST /posts) */
+    CREATE,
+    /** 게시글 수정 (PUT /posts/{id}) */
+    UPDATE
+}
@@ -0,0 +1,258 @@
+package org.peace.blog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.peace.blog.support.PostgresTestSchema;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기동 시간 벤치마크
+ * ./gradlew startupBenchmark [-PfastStartup] [-Pstartup.runs=5]
+ *
+ * 모드별로 애플리케이션을 별도 JVM으로 여러 번 기동하여 측정
+ * - ready: JVM 시작부터 ApplicationReadyEvent까지 (PeaceBlogApplication이 남기는 로그 기준)
+ * - wall: 프로세스 생성부터 ApplicationReadyEvent 로그를 읽을 때까지
+ * - firstRequest: 기동 직후 첫 GET /posts/published 응답 시간
+ *
+ * 모드
+ * - baseline: 일반 classpath 기동
+ * - fast: CDS 아카이브(+ AOT 결과) 사용 (./gradlew cdsArchive -PfastStartup 으로 생성된 경우만)
+ */
+public final class StartupBenchmark {
+
+    private static final String POSTGRES_IMAGE = "postgres:16-alpine";
+    private static final String MAIN_CLASS = "org.peace.blog.PeaceBlogApplication";
+    private static final String BASE_PATH = "/peace-blog";
+    private static final Pattern READY_PATTERN = Pattern.compile("Startup completed in (\\d+) ms");
+
+    private StartupBenchmark() {
+    }
+
+    /**
+     * 1회 기동 결과 (단위: ms)
+     */
+    record Run(long ready, long wall, long firstRequest) {
+    }
+
+    /**
+     * 모드별 결과 (단위: ms, 중앙값/최소/최대)
+     */
+    record ModeResult(List<String> jvmArgs, List<Run> runs,
+                      Map<String, Long> ready, Map<String, Long> wall, Map<String, Long> firstRequest) {
+
+        static ModeResult of(List<String> jvmArgs, List<Run> runs) {
+            return new ModeResult(jvmArgs, runs,
+                stats(runs, Run::ready), stats(runs, Run::wall), stats(runs, Run::firstRequest));
+        }
+
+        private static Map<String, Long> stats(List<Run> runs, ToLongFunction<Run> metric) {
+            long[] values = runs.stream().mapToLong(metric).sorted().toArray();
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("median", values[values.length / 2]);
+            stats.put("min", values[0]);
+            stats.put("max", values[values.length - 1]);
+            return stats;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path classpathFile = Path.of(System.getProperty("startup.classpath-file", "build/cds/classpath.args"));
+        Path archive = Path.of(System.getProperty("startup.cds-archive", "build/cds/app.jsa"));
+        boolean aot = Boolean.getBoolean("startup.aot");
+        int runs = Integer.getInteger("startup.runs", 5);
+        int warmupRuns = Integer.getInteger("startup.warmup-runs", 1);
+        Duration timeout = Duration.parse("PT" + System.getProperty("startup.timeout", "120s").toUpperCase());
+        Path logDir = Path.of(System.getProperty("startup.log-dir", "build/reports/startup"));
+        Path reportFile = Path.of(System.getProperty("startup.report", "build/reports/startup/result.json"));
+
+        if (!Files.isRegularFile(classpathFile)) {
+            throw new IllegalStateException("classpath 파일이 없습니다 (./gradlew cdsClasspath): " + classpathFile);
+        }
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("baseline", List.of());
+        if (Files.isRegularFile(archive)) {
+            List<String> fastArgs = new ArrayList<>();
+            fastArgs.add("-XX:SharedArchiveFile=" + archive.toAbsolutePath());
+            if (aot) {
+                fastArgs.add("-Dspring.aot.enabled=true");
+            }
+            modes.put("fast", fastArgs);
+        } else {
+            System.out.println("CDS archive not found, measuring baseline only: " + archive);
+        }
+
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        try {
+            postgres.start();
+            String r2dbcUrl = "r2dbc:postgresql://" + postgres.getHost() + ":"
+                + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName();
+            seed(r2dbcUrl, postgres.getUsername(), postgres.getPassword());
+
+            List<String> appArgs = List.of(
+                "--spring.r2dbc.url=" + r2dbcUrl,
+                "--spring.r2dbc.username=" + postgres.getUsername(),
+                "--spring.r2dbc.password=" + postgres.getPassword(),
+                "--logging.level.org.peace.blog=INFO");
+
+            Files.createDirectories(logDir);
+            Map<String, ModeResult> results = new LinkedHashMap<>();
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                List<Run> measured = new ArrayList<>();
+                for (int i = 0; i < warmupRuns + runs; i++) {
+                    boolean warmup = i < warmupRuns;
+                    Path log = logDir.resolve(mode.getKey() + "-" + (warmup ? "warmup" + i : "run" + (i - warmupRuns)) + ".log");
+                    Run run = runOnce(client, classpathFile, mode.getValue(), appArgs, log, timeout);
+                    System.out.printf("%-8s %-8s ready=%5dms wall=%5dms firstRequest=%5dms%n",
+                        mode.getKey(), warmup ? "warmup" : "run" + (i - warmupRuns),
+                        run.ready(), run.wall(), run.firstRequest());
+                    if (!warmup) {
+                        measured.add(run);
+                    }
+                }
+                results.put(mode.getKey(), ModeResult.of(mode.getValue(), measured));
+            }
+
+            print(results);
+            write(reportFile, results);
+        } finally {
+            postgres.stop();
+        }
+    }
+
+    private static void seed(String r2dbcUrl, String username, String password) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(r2dbcUrl)
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build());
+        PostgresTestSchema.apply(connectionFactory)
+            .then(PostgresTestSchema.seed(connectionFactory, 10, 1_000, 2_000))
+            .block(Duration.ofMinutes(5));
+    }
+
+    /**
+     * 애플리케이션을 별도 JVM으로 1회 기동하여 측정 후 종료
+     */
+    private static Run runOnce(HttpClient client, Path classpathFile, List<String> jvmArgs, List<String> appArgs,
+                               Path log, Duration timeout) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("@" + classpathFile.toAbsolutePath());
+        command.add(MAIN_CLASS);
+        command.add("--server.port=" + port);
+        command.addAll(appArgs);
+
+        long spawnedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try {
+            CompletableFuture<Long> ready = new CompletableFuture<>();
+            Thread reader = new Thread(() -> pipeOutput(process, log, ready), "startup-log-reader");
+            reader.setDaemon(true);
+            reader.start();
+
+            long readyMillis;
+            try {
+                readyMillis = ready.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException("애플리케이션이 기동되지 않았습니다. 로그: " + log.toAbsolutePath(), e);
+            }
+            long wallMillis = (System.nanoTime() - spawnedAt) / 1_000_000;
+
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + BASE_PATH + "/posts/published"))
+                .timeout(timeout)
+                .GET()
+                .build();
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long firstRequestMillis = (System.nanoTime() - start) / 1_000_000;
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("첫 요청 실패: HTTP " + response.statusCode() + ", 로그: " + log.toAbsolutePath());
+            }
+            return new Run(readyMillis, wallMillis, firstRequestMillis);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * 프로세스 출력을 로그 파일로 옮기면서 기동 완료 로그를 찾음
+     */
+    private static void pipeOutput(Process process, Path log, CompletableFuture<Long> ready) {
+        try (BufferedReader reader = new BufferedReader(
+                 new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter writer = new PrintWriter(Files.newBufferedWriter(log, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writer.println(line);
+                if (!ready.isDone()) {
+                    Matcher matcher = READY_PATTERN.matcher(line);
+                    if (matcher.find()) {
+                        ready.complete(Long.parseLong(matcher.group(1)));
+                    }
+                }
+            }
+            ready.completeExceptionally(new IllegalStateException("프로세스가 종료되었습니다: exit=" + process.waitFor()));
+        } catch (IOException | InterruptedException e) {
+            ready.completeExceptionally(e);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void print(Map<String, ModeResult> results) {
+        System.out.printf("%n=== Startup benchmark (median / min / max, ms) ===%n");
+        System.out.printf("%-10s %22s %22s %22s%n", "mode", "ready", "wall", "firstRequest");
+        results.forEach((mode, r) -> System.out.printf("%-10s %22s %22s %22s%n",
+            mode, format(r.ready()), format(r.wall()), format(r.firstRequest())));
+    }
+
+    private static String format(Map<String, Long> stats) {
+        return stats.get("median") + " / " + stats.get("min") + " / " + stats.get("max");
+    }
+
+    private static void write(Path file, Map<String, ModeResult> results) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), results);
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+}
@@ -1,11 +1,16 @@
 package org.peace.blog;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.service.WarmupService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 
+import java.lang.management.ManagementFactory;
+
 /**
  * PeaceBlogApplication
  * Spring Boot WebFlux 애플리케이션 진입점
@@ -17,7 +22,11 @@ import org.springframework.context.event.EventListener;
  */
 @Slf4j
 @SpringBootApplication
+@RequiredArgsConstructor
 public class PeaceBlogApplication {
+
+    // 슬라이스 테스트(@WebFluxTest)에는 없으므로 ObjectProvider로 주입
+    private final ObjectProvider<WarmupService> warmupService;
     
     /**
      * 애플리케이션 시작점
@@ -30,9 +39,12 @@ public class PeaceBlogApplication {
     /**
      * 애플리케이션 시작 완료 이벤트 리스너
      * 서버가 준비되면 실행됨
+     * - JVM 시작부터 준비 완료까지 걸린 시간을 남김 (StartupBenchmark가 이 로그로 기동 시간을 측정)
+     * - 이후 워밍업을 시작하며, 끝나기 전까지 readiness는 OUT_OF_SERVICE (WarmupService 참고)
      */
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
+        log.info("Startup completed in {} ms (JVM uptime)", ManagementFactory.getRuntimeMXBean().getUptime());
         log.info("=================================================");
         log.info("Peace Blog Backend is ready!");
         log.info("Server running on: http://localhost:8080");
@@ -46,5 +58,7 @@ public class PeaceBlogApplication {
         log.info("  DELETE /peace-blog/posts/{id}      - 게시글 삭제");
         log.info("  POST   /peace-blog/images/upload   - 이미지 업로드");
         log.info("=================================================");
+
+        warmupService.ifAvailable(WarmupService::start);
     }
 }
@@ -0,0 +1,39 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 접근 로그 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+
+    /**
+     * 접근 로그 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 정상 응답 중 기록할 비율 (0.0 ~ 1.0). 에러(5xx)와 느린 요청은 항상 기록
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * 이 시간 이상 걸린 요청은 항상 기록
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /**
+     * 기록하지 않을 경로 접두사 (헬스 체크, 메트릭 수집, 장시간 유지되는 SSE 연결 등)
+     */
+    private List<String> excludePathPrefixes = List.of("/actuator", "/posts/changes");
+}
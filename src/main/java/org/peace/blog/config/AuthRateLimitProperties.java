@@ -0,0 +1,43 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 API 요청 제한 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class AuthRateLimitProperties {
+
+    /**
+     * 클라이언트 IP별 버스트 크기 / 분당 충전량
+     */
+    private int ipCapacity = 20;
+    private int ipRefillPerMinute = 10;
+
+    /**
+     * username별 버스트 크기 / 분당 충전량
+     */
+    private int usernameCapacity = 5;
+    private int usernameRefillPerMinute = 3;
+
+    /**
+     * 추적할 최대 키 수. 초과 시 새 키는 공용 버킷을 함께 사용
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * 인증번호당 허용되는 검증 실패 횟수. 초과 시 인증번호 폐기
+     */
+    private int maxFailedVerifies = 5;
+
+    /**
+     * 프록시 뒤에서 X-Forwarded-For 헤더를 클라이언트 IP로 신뢰할지 여부
+     */
+    private boolean trustForwardedFor = false;
+}
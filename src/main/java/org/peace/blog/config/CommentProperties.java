@@ -0,0 +1,53 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 댓글 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "comments")
+public class CommentProperties {
+
+    /**
+     * 댓글 저장 요청을 모으는 최대 시간 (첫 요청 기준)
+     */
+    private Duration batchWindow = Duration.ofMillis(5);
+
+    /**
+     * 한 번에 저장할 최대 댓글 수
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * 동시에 실행할 일괄 저장 수
+     */
+    private int maxConcurrentBatches = 2;
+
+    /**
+     * 저장 대기 중인 댓글 최대 수 (넘으면 503)
+     */
+    private int maxPending = 5000;
+
+    /**
+     * 기본 페이지 크기
+     */
+    private int pageSize = 20;
+
+    /**
+     * 최대 페이지 크기
+     */
+    private int maxPageSize = 100;
+
+    /**
+     * 댓글 수를 DB에 반영하는 주기 (ms)
+     */
+    private long countFlushIntervalMs = 1000;
+}
@@ -0,0 +1,78 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * DB 동시 실행 한도(bulkhead) 설정 프로퍼티
+ * - 조회/쓰기/인증을 별도 한도로 나누어 한쪽이 느려져도 다른 쪽은 영향을 받지 않음
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "db.bulkhead")
+public class DatabaseBulkheadProperties {
+
+    /**
+     * 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 이 시간을 넘는 쿼리는 과부하 신호로 보고 한도를 줄임
+     */
+    private Duration latencyThreshold = Duration.ofMillis(250);
+
+    /**
+     * 과부하 시 한도 감소 비율
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * 공개 조회 (게시글 목록/상세)
+     */
+    private Limit read = new Limit(20, 4, 100);
+
+    /**
+     * 게시글 생성/수정/삭제
+     */
+    private Limit write = new Limit(10, 2, 40);
+
+    /**
+     * 관리자 인증 (사용자 조회, 패스코드 재해시)
+     */
+    private Limit auth = new Limit(5, 1, 20);
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * 시작 한도
+         */
+        private int initial;
+
+        /**
+         * 최소 한도
+         */
+        private int min;
+
+        /**
+         * 최대 한도
+         */
+        private int max;
+
+        public Limit() {
+        }
+
+        public Limit(int initial, int min, int max) {
+            this.initial = initial;
+            this.min = min;
+            this.max = max;
+        }
+    }
+}
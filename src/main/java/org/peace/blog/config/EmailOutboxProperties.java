@@ -0,0 +1,59 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이메일 발송 대기열 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "email.outbox")
+public class EmailOutboxProperties {
+
+    /**
+     * 발송 워커 수 (워커마다 SMTP 연결 1개를 재사용)
+     */
+    private int workers = 2;
+
+    /**
+     * 대기열 최대 크기. 초과 시 503
+     */
+    private int queueCapacity = 1_000;
+
+    /**
+     * 메시지당 최대 발송 시도 횟수
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 재시도 대기 시간 (시도마다 2배, 최대 maxBackoff)
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(1);
+
+    /**
+     * 유휴 SMTP 연결을 닫기까지의 시간
+     */
+    private Duration idleConnectionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * true면 email_outbox 테이블에 저장하여 재시작 후에도 발송
+     */
+    private boolean durable = false;
+
+    /**
+     * 이 시간 이상 SENDING인 메시지는 발송하던 노드가 종료된 것으로 보고 다시 가져감 (durable 모드)
+     */
+    private Duration stuckTimeout = Duration.ofMinutes(10);
+
+    /**
+     * 미발송 메시지를 DB에서 가져오는 주기 (ms, durable 모드)
+     */
+    private long recoverIntervalMs = 30_000;
+}
@@ -0,0 +1,79 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 이미지 저장소 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "image.storage")
+public class ImageStorageProperties {
+
+    /**
+     * 저장소 종류 (local: 로컬 디스크, s3: S3 호환 저장소)
+     */
+    private String type = "local";
+
+    /**
+     * 이미지 저장 루트 디렉터리 (s3 사용 시에도 업로드 임시 파일은 여기에 기록)
+     */
+    private String root = "./data/images";
+
+    /**
+     * 이미지 URL 접두사 (GET /images/{hash})
+     */
+    private String publicBaseUrl = "http://localhost:8080/peace-blog/images";
+
+    /**
+     * S3 호환 저장소 설정 (type=s3)
+     */
+    private S3 s3 = new S3();
+
+    @Getter
+    @Setter
+    public static class S3 {
+
+        private String bucket = "peace-blog-images";
+        private String region = "ap-northeast-2";
+
+        /**
+         * 엔드포인트 (비우면 AWS 기본값, MinIO 등은 http://localhost:9000)
+         */
+        private String endpoint;
+
+        /**
+         * path-style 주소 사용 (MinIO 등 로컬 S3 호환 서버)
+         */
+        private boolean pathStyleAccess;
+
+        /**
+         * 접근 키 (비우면 기본 자격 증명 체인 사용)
+         */
+        private String accessKey;
+        private String secretKey;
+
+        /**
+         * 멀티파트 파트 크기 (최소 5MB) / 동시에 전송할 최대 파트 수
+         */
+        private DataSize partSize = DataSize.ofMegabytes(8);
+        private int maxInFlightParts = 4;
+
+        /**
+         * 이미지 조회 시 리다이렉트할 공개 URL 접두사 (비우면 presigned URL 사용)
+         */
+        private String publicBaseUrl;
+
+        /**
+         * presigned URL 유효 시간
+         */
+        private Duration presignTtl = Duration.ofHours(1);
+    }
+}
@@ -0,0 +1,37 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 이미지 업로드 제한 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "image.upload")
+public class ImageUploadProperties {
+
+    /**
+     * Base64 업로드의 디코딩 후 최대 크기 (초과 시 413으로 즉시 중단)
+     */
+    private DataSize maxBase64Size = DataSize.ofMegabytes(10);
+
+    /**
+     * multipart 업로드 파일 1개의 최대 크기
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(20);
+
+    /**
+     * 노드당 동시 업로드 최대 수 (초과 시 503)
+     */
+    private int maxConcurrentUploads = 8;
+
+    /**
+     * 노드당 처리 중인 업로드 바이트 합계 최대값 (초과 시 503)
+     */
+    private DataSize maxInFlightBytes = DataSize.ofMegabytes(128);
+}
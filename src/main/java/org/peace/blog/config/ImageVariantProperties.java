@@ -0,0 +1,49 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 이미지 변형(리사이즈) 생성 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "image.variants")
+public class ImageVariantProperties {
+
+    /**
+     * 생성할 가로 크기 목록 (원본보다 작은 것만 생성)
+     */
+    private List<Integer> widths = List.of(320, 640, 1280);
+
+    /**
+     * 변형을 만들 원본의 최대 픽셀 수 (가로 x 세로, 넘으면 디코딩하지 않음)
+     */
+    private long maxSourcePixels = 40_000_000L;
+
+    /**
+     * 변형 생성 워커 수 (기본값: CPU 코어 수)
+     */
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 작업당 최대 시도 횟수
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 이 시간 이상 RUNNING 상태인 작업은 중단된 것으로 보고 다시 처리
+     */
+    private Duration stuckTimeout = Duration.ofMinutes(10);
+
+    /**
+     * JPEG/WebP 압축 품질 (0.0 ~ 1.0)
+     */
+    private float quality = 0.82f;
+}
@@ -0,0 +1,110 @@
+package org.peace.blog.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * MetricsConfig
+ * Micrometer 메트릭 설정 (Prometheus: 관리 포트의 GET /actuator/prometheus)
+ * - HTTP 라우트별 지연 히스토그램/에러 비율: http.server.requests (application.yml의 management.metrics 참고)
+ * - JVM GC/할당/메모리: Spring Boot 자동 설정
+ * - Reactor 공용 스케줄러(boundedElastic 등) 실행기 메트릭: reactor.executor.*
+ *   (name=스케줄러 이름, executor=스케줄러 안의 실행기 번호, 종료된 실행기의 번호는 재사용하여 태그 수가 늘지 않도록 함)
+ * - Netty 이벤트 루프/연결 메트릭: reactor.netty.*
+ */
+@Slf4j
+@Configuration
+public class MetricsConfig {
+
+    private static final String SCHEDULER_DECORATOR_KEY = "micrometer";
+
+    private final MeterRegistry meterRegistry;
+    // 계측 중인 실행기 -> 메트릭 태그
+    private final Map<ScheduledExecutorService, MonitoredExecutor> executors = new ConcurrentHashMap<>();
+    // 스케줄러 이름 -> 사용 중인 실행기 번호
+    private final Map<String, BitSet> executorSlots = new HashMap<>();
+
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        // 이후 생성되는 Reactor 스케줄러의 실행기를 계측
+        Schedulers.addExecutorServiceDecorator(SCHEDULER_DECORATOR_KEY, (scheduler, executor) -> {
+            String schedulerName = Scannable.from(scheduler)
+                .scanOrDefault(Scannable.Attr.NAME, scheduler.getClass().getSimpleName());
+            MonitoredExecutor monitored = new MonitoredExecutor(schedulerName, acquireSlot(schedulerName));
+            executors.put(executor, monitored);
+            return ExecutorServiceMetrics.monitor(meterRegistry, executor, schedulerName, "reactor",
+                Tags.of("scheduler", schedulerName, "executor", String.valueOf(monitored.slot())));
+        });
+    }
+
+    /**
+     * 종료된 실행기(boundedElastic의 유휴 워커 정리 등)의 메트릭 제거 후 번호 반납
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void removeShutdownExecutorMeters() {
+        executors.entrySet().removeIf(entry -> {
+            if (!entry.getKey().isShutdown()) {
+                return false;
+            }
+            MonitoredExecutor monitored = entry.getValue();
+            String slot = String.valueOf(monitored.slot());
+            List<Meter> meters = meterRegistry.getMeters().stream()
+                .filter(meter -> monitored.schedulerName().equals(meter.getId().getTag("name"))
+                    && slot.equals(meter.getId().getTag("executor")))
+                .toList();
+            meters.forEach(meterRegistry::remove);
+            releaseSlot(monitored);
+            return true;
+        });
+    }
+
+    /**
+     * Reactor Netty 서버 메트릭 활성화
+     * - URI는 상수로 매핑하여 태그 수가 늘지 않도록 함 (라우트별 지표는 http.server.requests 사용)
+     *
+     * @return NettyServerCustomizer
+     */
+    @Bean
+    public NettyServerCustomizer nettyMetricsCustomizer() {
+        return httpServer -> httpServer.metrics(true, uri -> "/");
+    }
+
+    @PreDestroy
+    public void removeSchedulerDecorator() {
+        Schedulers.removeExecutorServiceDecorator(SCHEDULER_DECORATOR_KEY);
+    }
+
+    private synchronized int acquireSlot(String schedulerName) {
+        BitSet slots = executorSlots.computeIfAbsent(schedulerName, name -> new BitSet());
+        int slot = slots.nextClearBit(0);
+        slots.set(slot);
+        return slot;
+    }
+
+    private synchronized void releaseSlot(MonitoredExecutor monitored) {
+        BitSet slots = executorSlots.get(monitored.schedulerName());
+        if (slots != null) {
+            slots.clear(monitored.slot());
+        }
+    }
+
+    private record MonitoredExecutor(String schedulerName, int slot) {
+    }
+}
@@ -0,0 +1,31 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 패스코드 해시(BCrypt) 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.passcode")
+public class PasscodeHashProperties {
+
+    /**
+     * BCrypt cost (log2 rounds). 값을 올리면 다음 로그인 시 자동으로 재해시됨
+     */
+    private int strength = 10;
+
+    /**
+     * 해시 전용 스레드 수 (기본값: CPU 코어 수)
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 스레드가 모두 사용 중일 때 대기 가능한 작업 수. 초과 시 429 응답
+     */
+    private int queueCapacity = 64;
+}
@@ -0,0 +1,38 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 변경 알림 설정 프로퍼티 (PostgreSQL LISTEN/NOTIFY)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "posts.changes")
+public class PostChangeFeedProperties {
+
+    /**
+     * 노드 간 알림 사용 여부 (false면 이 노드의 변경만 전달)
+     */
+    private boolean enabled = true;
+
+    /**
+     * NOTIFY 채널 이름
+     */
+    private String channel = "post_changes";
+
+    /**
+     * LISTEN 연결이 끊겼을 때 재연결 최소 대기 시간 (실패가 이어지면 최대 30초까지 늘어남)
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(1);
+
+    /**
+     * 구독자별 버퍼 크기 (느린 구독자는 오래된 이벤트부터 버림)
+     */
+    private int subscriberBufferSize = 256;
+}
@@ -0,0 +1,64 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게시글 반응(좋아요 등) 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reactions")
+public class ReactionProperties {
+
+    /**
+     * 허용하는 반응 종류
+     */
+    private List<String> types = List.of("LIKE", "LOVE", "LAUGH", "WOW", "SAD");
+
+    /**
+     * 게시글/반응별 반응 수 shard 수 (반영할 shard는 일괄 반영마다 무작위 선택)
+     */
+    private int shards = 16;
+
+    /**
+     * 한 번에 반영할 최대 반응 수
+     */
+    private int maxBatchSize = 10000;
+
+    /**
+     * 반영 대기 중인 반응 최대 수 (넘으면 503)
+     */
+    private int maxPending = 100000;
+
+    /**
+     * 중복 반응 확인용으로 기억할 최근 반응 수 (세대당, 이 노드 기준)
+     */
+    private int dedupeCapacity = 1_000_000;
+
+    /**
+     * shard 합산 결과 캐시 유지 시간
+     */
+    private Duration countCacheTtl = Duration.ofSeconds(2);
+
+    /**
+     * shard 합산 결과를 캐시할 최대 게시글 수 (넘으면 비움)
+     */
+    private int maxCachedPosts = 10000;
+
+    /**
+     * 반응을 DB에 반영하는 주기 (ms)
+     */
+    private long flushIntervalMs = 500;
+
+    /**
+     * 반응 1건을 반영하는 최대 시도 횟수 (넘으면 버림, DB를 쓸 수 없어 실패한 경우는 세지 않음)
+     */
+    private int maxAttempts = 3;
+}
@@ -0,0 +1,56 @@
+package org.peace.blog.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactory;
+import org.peace.blog.util.RequestTimings;
+import org.peace.blog.util.TimingJackson2JsonEncoder;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+/**
+ * ServerTimingConfig
+ * 요청별 처리 시간 측정 지점 등록 (ServerTimingFilter가 켠 요청만 기록)
+ * - DB: DatabaseClient 실행 함수에서 쿼리 시간/횟수 (Spring Data 저장소도 이 DatabaseClient 사용)
+ * - 직렬화: JSON 인코더
+ */
+@Configuration
+public class ServerTimingConfig {
+
+    /**
+     * 쿼리 시간을 기록하는 DatabaseClient (Spring Boot 기본 DatabaseClient 대체)
+     * - 실행 시작부터 결과 스트림 종료까지를 쿼리 시간으로 기록
+     */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.builder()
+            .connectionFactory(connectionFactory)
+            .bindMarkers(DialectResolver.getDialect(connectionFactory).getBindMarkersFactory())
+            .executeFunction(statement -> Flux.deferContextual(context -> {
+                RequestTimings timings = RequestTimings.from(context);
+                if (timings == null) {
+                    return Flux.from(statement.execute());
+                }
+                long start = System.nanoTime();
+                return Flux.from(statement.execute())
+                    .doFinally(signal -> timings.recordQuery(System.nanoTime() - start));
+            }))
+            .build();
+    }
+
+    /**
+     * 직렬화 시간을 기록하는 JSON 인코더
+     * - Spring Boot 기본 Jackson 코덱 설정(@Order(0)) 이후에 적용되도록 가장 낮은 우선순위
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public CodecCustomizer timingJsonEncoderCustomizer(ObjectMapper objectMapper) {
+        return configurer -> configurer.defaultCodecs()
+            .jackson2JsonEncoder(new TimingJackson2JsonEncoder(objectMapper));
+    }
+}
@@ -0,0 +1,26 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Server-Timing 측정 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * 측정을 켜는 관리자 토큰 (요청 헤더 값과 같을 때만 측정, 비우면 사용 안 함)
+     */
+    private String token = "";
+
+    /**
+     * 토큰을 담는 요청 헤더 이름
+     */
+    private String header = "X-Server-Timing";
+}
@@ -0,0 +1,53 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * DB 장애 시 마지막 정상 응답 제공(stale-while-revalidate) 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "posts.stale")
+public class StaleReadProperties {
+
+    /**
+     * 사용 여부 (false면 DB 오류를 그대로 전달)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 보관할 최대 응답 수 (가장 오래 사용되지 않은 것부터 제거)
+     */
+    private int maxEntries = 1000;
+
+    /**
+     * 보관할 목록 응답의 최대 게시글 수 (더 큰 목록은 보관하지 않음)
+     */
+    private int maxListSize = 1000;
+
+    /**
+     * 이 시간보다 오래된 응답은 제공하지 않음
+     */
+    private Duration maxAge = Duration.ofHours(6);
+
+    /**
+     * circuit breaker를 여는 연속 DB 실패 횟수
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * circuit breaker가 열린 뒤 시험 조회까지 대기 시간
+     */
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    /**
+     * 오래된 응답을 제공한 키의 백그라운드 갱신 주기 (ms)
+     */
+    private long refreshIntervalMs = 5000;
+}
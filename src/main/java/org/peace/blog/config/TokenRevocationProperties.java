@@ -0,0 +1,26 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 폐기 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.revocation")
+public class TokenRevocationProperties {
+
+    /**
+     * Bloom filter 초기 크기 (동시에 유효한 폐기 토큰 예상 수)
+     */
+    private int expectedRevocations = 10_000;
+
+    /**
+     * Bloom filter 허용 오탐률 (오탐 시에만 정확한 집합을 확인)
+     */
+    private double falsePositiveRate = 0.001;
+}
@@ -0,0 +1,33 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인증번호 저장소 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.verification")
+public class VerificationStoreProperties {
+
+    /**
+     * 저장소 종류 (memory: 노드 로컬, postgres: 여러 노드가 공유)
+     */
+    private String store = "memory";
+
+    /**
+     * 인증번호 유효 시간
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * 메모리 저장소 최대 보관 건수. 초과 시 429
+     */
+    private int maxEntries = 10_000;
+}
@@ -0,0 +1,39 @@
+package org.peace.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 기동 후 워밍업 설정 프로퍼티
+ * - 워밍업이 끝나기 전까지 readiness는 OUT_OF_SERVICE
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    /**
+     * 워밍업 사용 여부 (false면 기동 즉시 준비 완료)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 워밍업 최대 시간. 초과하면 중단하고 준비 완료로 전환 (노드가 계속 트래픽을 받지 못하는 것 방지)
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * 미리 읽을 게시글 수 (조회수 상위, 최근 발행 각각)
+     */
+    private int postLimit = 50;
+
+    /**
+     * JSON 직렬화/JWT 발급·검증 반복 횟수 (JIT 컴파일 유도)
+     */
+    private int iterations = 5_000;
+}
@@ -3,6 +3,12 @@ package org.peace.blog.config;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.filter.AccessLogFilter;
+import org.peace.blog.filter.AuthRateLimitFilter;
+import org.peace.blog.filter.ServerTimingFilter;
+import org.peace.blog.filter.UploadAdmissionFilter;
+import org.peace.blog.service.AuthRateLimiter;
+import org.peace.blog.service.UploadAdmissionController;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsWebFilter;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
 
 import java.util.List;
 
@@ -77,4 +84,57 @@ public class WebConfig {
 
         return new CorsWebFilter(source);
     }
+
+    /**
+     * 접근 로그 필터 빈 생성
+     *
+     * @return AccessLogFilter
+     */
+    @Bean
+    public AccessLogFilter accessLogFilter(AccessLogProperties accessLogProperties) {
+        return new AccessLogFilter(accessLogProperties);
+    }
+
+    /**
+     * Server-Timing 측정 필터 빈 생성
+     *
+     * @return ServerTimingFilter
+     */
+    @Bean
+    public ServerTimingFilter serverTimingFilter(ServerTimingProperties serverTimingProperties) {
+        return new ServerTimingFilter(serverTimingProperties);
+    }
+
+    /**
+     * 요청 exchange를 Reactor context에 넣는 필터 빈 생성
+     * (DB 장애 시 서비스에서 Warning/Age 응답 헤더를 추가하는 데 사용)
+     *
+     * @return ServerWebExchangeContextFilter
+     */
+    @Bean
+    public ServerWebExchangeContextFilter serverWebExchangeContextFilter() {
+        return new ServerWebExchangeContextFilter();
+    }
+
+    /**
+     * 관리자 인증 API 요청 제한 필터 빈 생성
+     *
+     * @return AuthRateLimitFilter
+     */
+    @Bean
+    public AuthRateLimitFilter authRateLimitFilter(AuthRateLimiter authRateLimiter,
+                                                   AuthRateLimitProperties authRateLimitProperties) {
+        return new AuthRateLimitFilter(authRateLimiter, authRateLimitProperties);
+    }
+
+    /**
+     * 이미지 업로드 승인 제어 필터 빈 생성
+     *
+     * @return UploadAdmissionFilter
+     */
+    @Bean
+    public UploadAdmissionFilter uploadAdmissionFilter(UploadAdmissionController uploadAdmissionController,
+                                                       ImageUploadProperties imageUploadProperties) {
+        return new UploadAdmissionFilter(uploadAdmissionController, imageUploadProperties);
+    }
 }
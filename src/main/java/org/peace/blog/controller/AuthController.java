@@ -8,6 +8,7 @@ import org.peace.blog.service.AuthService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
 /**
@@ -30,10 +31,7 @@ public class AuthController {
         
         return authService.requestVerificationCode(request.getUsername(), request.getPasscode())
             .map(message -> ResponseEntity.ok(new ApiResponse(true, message, null)))
-            .onErrorResume(e -> Mono.just(
-                ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(new ApiResponse(false, e.getMessage(), null))
-            ));
+            .onErrorResume(e -> Mono.just(toErrorResponse(e)));
     }
     
     /**
@@ -46,10 +44,7 @@ public class AuthController {
         
         return authService.verifyCodeAndGenerateToken(request.getUsername(), request.getCode())
             .map(token -> ResponseEntity.ok(new ApiResponse(true, "인증 성공", token)))
-            .onErrorResume(e -> Mono.just(
-                ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(new ApiResponse(false, e.getMessage(), null))
-            ));
+            .onErrorResume(e -> Mono.just(toErrorResponse(e)));
     }
     
     /**
@@ -73,6 +68,51 @@ public class AuthController {
             });
     }
     
+    /**
+     * 로그아웃 (현재 토큰 폐기)
+     * POST /api/admin/auth/logout
+     */
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<ApiResponse>> logout(
+            @RequestHeader("Authorization") String authHeader) {
+
+        String token = authHeader.replace("Bearer ", "");
+
+        return authService.logout(token)
+            .thenReturn(ResponseEntity.ok(new ApiResponse(true, "로그아웃되었습니다", null)))
+            .onErrorResume(e -> Mono.just(toErrorResponse(e)));
+    }
+
+    /**
+     * 특정 사용자의 토큰 전체 폐기 (ADMIN)
+     * POST /api/admin/auth/revoke/{username}
+     */
+    @PostMapping("/revoke/{username}")
+    public Mono<ResponseEntity<ApiResponse>> revokeAllTokens(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable String username) {
+
+        String token = authHeader.replace("Bearer ", "");
+
+        return authService.revokeAllTokens(token, username)
+            .thenReturn(ResponseEntity.ok(new ApiResponse(true, "토큰이 모두 폐기되었습니다", null)))
+            .onErrorResume(e -> Mono.just(toErrorResponse(e)));
+    }
+
+    /**
+     * 에러 응답 변환
+     * - ResponseStatusException(예: 429)은 해당 상태 코드 유지, 그 외는 401
+     */
+    private ResponseEntity<ApiResponse> toErrorResponse(Throwable e) {
+        if (e instanceof ResponseStatusException rse) {
+            return ResponseEntity.status(rse.getStatusCode())
+                .headers(rse.getHeaders())
+                .body(new ApiResponse(false, rse.getReason(), null));
+        }
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+            .body(new ApiResponse(false, e.getMessage(), null));
+    }
+
     // DTO 클래스들
     
     @Data
@@ -0,0 +1,47 @@
+package org.peace.blog.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.peace.blog.entity.Comment;
+import org.peace.blog.model.CommentCreateRequest;
+import org.peace.blog.model.CommentPage;
+import org.peace.blog.service.CommentService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * CommentController
+ * 게시글 댓글 REST API 엔드포인트
+ */
+@RestController
+@RequestMapping("/posts/{postId}/comments")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+
+    /**
+     * 댓글 목록 조회 (작성 순)
+     * GET /api/posts/{postId}/comments?cursor=&limit=
+     */
+    @GetMapping
+    public Mono<CommentPage> getComments(@PathVariable Long postId,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer limit) {
+        return commentService.getComments(postId, cursor, limit);
+    }
+
+    /**
+     * 댓글 작성
+     * POST /api/posts/{postId}/comments
+     * - 게시글이 없으면 404, 댓글이 허용되지 않은 게시글이면 403
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Comment>> addComment(@PathVariable Long postId,
+                                                    @Valid @RequestBody CommentCreateRequest request) {
+        return commentService.addComment(postId, request.getUsername(), request.getContent())
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+}
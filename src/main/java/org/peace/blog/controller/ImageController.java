@@ -2,14 +2,35 @@ package org.peace.blog.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ImageUploadProperties;
+import org.peace.blog.model.ImageSrcSet;
 import org.peace.blog.service.ImageService;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
 import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * ImageController
  * 이미지 업로드 관련 REST API
@@ -21,6 +42,16 @@ import reactor.core.publisher.Mono;
 public class ImageController {
     
     private final ImageService imageService;
+    private final ImageUploadProperties uploadProperties;
+
+    // 이미지 ID = SHA-256 (hex)
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    // 내용이 바뀌지 않는 content-addressed URL이므로 1년 + immutable
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // zero-copy를 지원하지 않는 서버에서 사용할 읽기 버퍼 크기
+    private static final int FALLBACK_BUFFER_SIZE = 64 * 1024;
     
     /**
      * 이미지 파일 업로드
@@ -34,43 +65,235 @@ public class ImageController {
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public Mono<ResponseEntity<String>> uploadImage(
             @RequestPart("file") FilePart filePart) {
-        
-        log.info("POST /api/images/upload - Uploading image: {}", filePart.filename());
-        
         return imageService.uploadImage(filePart)
                 // 업로드 성공 시 200 OK와 이미지 URL 반환
                 .map(ResponseEntity::ok)
-                // 에러 발생 시 500 Internal Server Error
-                .onErrorResume(error -> {
-                    log.error("Error uploading image", error);
-                    return Mono.just(
-                            ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                    .body("Image upload failed: " + error.getMessage())
-                    );
-                });
+                // 크기 초과 등은 해당 상태 코드, 그 외 에러는 500 Internal Server Error
+                .onErrorResume(error -> Mono.just(toErrorResponse("Image upload failed", error)));
     }
     
     /**
      * Base64 이미지 업로드 (선택적)
      * POST /api/images/upload/base64
      * 
-     * @param base64Image Base64 인코딩된 이미지 문자열
+     * 본문은 문자열로 모으지 않고 스트리밍으로 디코딩
+     * 
+     * @param base64Content Base64 인코딩된 이미지 (data URI, JSON 문자열 형식 허용)
      * @return Mono<ResponseEntity<String>> - 업로드된 이미지 URL
      */
     @PostMapping("/upload/base64")
     public Mono<ResponseEntity<String>> uploadBase64Image(
-            @RequestBody String base64Image) {
+            @RequestBody Flux<DataBuffer> base64Content,
+            @RequestHeader HttpHeaders headers) {
+        // Content-Length로 한도 초과가 확실하면 본문을 읽지 않고 413 (Base64는 원본의 4/3 크기)
+        long maxEncodedLength = uploadProperties.getMaxBase64Size().toBytes() / 3 * 4 + 1024;
+        if (headers.getContentLength() > maxEncodedLength) {
+            return Mono.just(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body("Base64 image upload failed: 이미지 크기가 제한을 초과했습니다"));
+        }
         
-        log.info("POST /api/images/upload/base64 - Uploading base64 image");
-        
-        return imageService.uploadBase64Image(base64Image)
+        return imageService.uploadBase64Image(base64Content)
                 .map(ResponseEntity::ok)
-                .onErrorResume(error -> {
-                    log.error("Error uploading base64 image", error);
-                    return Mono.just(
-                            ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                    .body("Base64 image upload failed: " + error.getMessage())
-                    );
-                });
+                .onErrorResume(error -> Mono.just(toErrorResponse("Base64 image upload failed", error)));
+    }
+
+    /**
+     * 이미지 조회
+     * GET /api/images/{hash}
+     *
+     * - sendfile(zero-copy)로 파일을 힙 복사 없이 전송
+     * - Range 요청 시 206 Partial Content (단일 구간)
+     * - 해시 기반 강한 ETag, If-None-Match 시 304
+     * - S3 등 로컬 파일이 없는 저장소는 저장소 URL로 302 리다이렉트
+     *
+     * @param hash 이미지 SHA-256
+     */
+    @GetMapping("/{hash}")
+    public Mono<Void> getImage(@PathVariable String hash, ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return notFound(response);
+        }
+
+        Optional<Path> path = imageService.resolvePath(hash);
+        return imageService.getImage(hash)
+                .flatMap(image -> path.isPresent()
+                        ? writeLocalImage(image.getHash(), image.getSize(), image.getMimeType(), path.get(), exchange)
+                        : redirect(response, imageService.resolveRedirectUri(hash)))
+                .switchIfEmpty(notFound(response));
+    }
+
+    /**
+     * 반응형 변형 목록 (srcset) 조회
+     * GET /api/images/{hash}/variants
+     *
+     * 변형은 업로드 후 백그라운드에서 생성되므로, 생성 전에는 빈 목록이 반환됨
+     */
+    @GetMapping("/{hash}/variants")
+    public Mono<ResponseEntity<ImageSrcSet>> getImageVariants(@PathVariable String hash) {
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return Mono.just(ResponseEntity.notFound().build());
+        }
+        return imageService.getSrcSet(hash)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 리사이즈 변형 이미지 조회
+     * GET /api/images/{hash}/variants/{width}.{format}
+     */
+    @GetMapping("/{hash}/variants/{width}.{format}")
+    public Mono<Void> getImageVariant(@PathVariable String hash,
+                                      @PathVariable int width,
+                                      @PathVariable String format,
+                                      ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return notFound(response);
+        }
+
+        Optional<Path> path = imageService.resolveVariantPath(hash, width, format);
+        return imageService.getVariant(hash, width, format)
+                .flatMap(variant -> path.isPresent()
+                        ? writeLocalImage(hash + "-" + width + "." + format, variant.getSize(),
+                                "image/" + format, path.get(), exchange)
+                        : redirect(response, imageService.resolveVariantRedirectUri(hash, width, format)))
+                .switchIfEmpty(notFound(response));
+    }
+
+    /**
+     * 로컬 파일 전송 (파일이 없으면 empty)
+     */
+    private Mono<Void> writeLocalImage(String etagValue, long size, String mimeType, Path path,
+                                       ServerWebExchange exchange) {
+        if (!Files.isRegularFile(path)) {
+            return Mono.empty();
+        }
+        return writeImage(etagValue, size, mimeType, path, exchange);
+    }
+
+    /**
+     * 오브젝트 저장소(S3 등) URL로 302 리다이렉트
+     * - presigned URL은 만료되므로 리다이렉트 응답 자체는 캐시하지 않음
+     */
+    private Mono<Void> redirect(ServerHttpResponse response, Optional<URI> location) {
+        if (location.isEmpty()) {
+            return Mono.empty();
+        }
+        response.setStatusCode(HttpStatus.FOUND);
+        response.getHeaders().setLocation(location.get());
+        response.getHeaders().setCacheControl("no-store");
+        return response.setComplete();
+    }
+
+    /**
+     * 업로드 에러 응답 변환
+     * - ResponseStatusException은 해당 상태 코드(400/413 등), 그 외는 500
+     */
+    private ResponseEntity<String> toErrorResponse(String message, Throwable error) {
+        if (error instanceof ResponseStatusException statusException) {
+            log.warn("{}: {}", message, statusException.getReason());
+            return ResponseEntity.status(statusException.getStatusCode())
+                    .headers(statusException.getHeaders())
+                    .body(message + ": " + statusException.getReason());
+        }
+        log.error(message, error);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(message + ": " + error.getMessage());
+    }
+
+    private Mono<Void> notFound(ServerHttpResponse response) {
+        return Mono.defer(() -> {
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return response.setComplete();
+        });
+    }
+
+    private Mono<Void> writeImage(String etagValue, long size, String mimeType, Path path, ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+        HttpHeaders headers = response.getHeaders();
+        String etag = "\"" + etagValue + "\"";
+
+        headers.setETag(etag);
+        headers.set(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentType(safeContentType(mimeType));
+        // 브라우저가 내용을 보고 HTML 등으로 해석하지 않도록
+        headers.set("X-Content-Type-Options", "nosniff");
+
+        // 조건부 요청: 내용이 같으면 본문 없이 304
+        if (requestHeaders.getIfNoneMatch().stream().anyMatch(tag -> tag.equals(etag) || tag.equals("*"))) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        long start = 0;
+        long length = size;
+        List<HttpRange> ranges = parseRanges(requestHeaders, etag);
+        if (ranges == null) {
+            return rangeNotSatisfiable(response, size);
+        }
+        if (ranges.size() == 1) {
+            HttpRange range = ranges.get(0);
+            try {
+                start = range.getRangeStart(size);
+                length = range.getRangeEnd(size) - start + 1;
+            } catch (IllegalArgumentException e) {
+                return rangeNotSatisfiable(response, size);
+            }
+            response.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + length - 1) + "/" + size);
+        }
+        // 여러 구간 요청은 전체 응답(200)으로 처리
+        headers.setContentLength(length);
+
+        if (response instanceof ZeroCopyHttpOutputMessage zeroCopyResponse) {
+            return zeroCopyResponse.writeWith(path, start, length);
+        }
+        return response.writeWith(DataBufferUtils.takeUntilByteCount(
+                DataBufferUtils.readAsynchronousFileChannel(
+                        () -> AsynchronousFileChannel.open(path, StandardOpenOption.READ),
+                        start, response.bufferFactory(), FALLBACK_BUFFER_SIZE),
+                length));
+    }
+
+    /**
+     * 응답 Content-Type
+     * - 래스터 이미지 타입만 그대로 사용하고, 그 외(형식 오류, HTML, SVG 등 이전에 저장된 값)는 application/octet-stream
+     */
+    private static MediaType safeContentType(String mimeType) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(mimeType);
+            if ("image".equals(mediaType.getType()) && !mediaType.getSubtype().contains("svg")) {
+                return mediaType;
+            }
+        } catch (InvalidMediaTypeException e) {
+            log.warn("저장된 MIME 타입 형식 오류: {}", mimeType);
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    /**
+     * Range 헤더 파싱
+     * - If-Range의 ETag가 현재 ETag와 다르면 Range를 무시 (날짜 형식은 내용이 불변이므로 항상 일치로 간주)
+     * @return 파싱 실패 시 null, Range가 없으면 빈 목록
+     */
+    private List<HttpRange> parseRanges(HttpHeaders requestHeaders, String etag) {
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null && (ifRange.startsWith("\"") || ifRange.startsWith("W/")) && !ifRange.equals(etag)) {
+            return List.of();
+        }
+        try {
+            return requestHeaders.getRange();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Mono<Void> rangeNotSatisfiable(ServerHttpResponse response, long size) {
+        response.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        response.getHeaders().set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+        return response.setComplete();
     }
 }
@@ -4,15 +4,21 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.peace.blog.entity.Post;
+import org.peace.blog.model.PostChangeEvent;
 import org.peace.blog.model.PostCreateRequest;
 import org.peace.blog.model.PostUpdateRequest;
 import org.peace.blog.service.PostService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 /**
  * PostController
  * 게시글 관련 REST API 엔드포인트
@@ -25,6 +31,9 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class PostController {
 
+    // SSE 연결이 프록시/로드밸런서 유휴 시간 제한으로 끊기지 않도록 주기적으로 주석 전송
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
     private final PostService postService;
 
     /**
@@ -33,7 +42,6 @@ public class PostController {
      */
     @GetMapping
     public Flux<Post> getAllPosts() {
-        log.info("GET /api/posts - Getting all posts");
         return postService.getAllPosts();
     }
 
@@ -43,22 +51,35 @@ public class PostController {
      */
     @GetMapping("/published")
     public Flux<Post> getPublishedPosts() {
-        log.info("GET /api/posts/published - Getting published posts");
         return postService.getPublishedPosts();
     }
 
+    /**
+     * 게시글 변경 알림 (Server-Sent Events)
+     * GET /api/posts/changes
+     * - event: 변경 종류 (CREATED, UPDATED, PUBLISHED, DELETED, RESYNC), data: PostChangeEvent
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PostChangeEvent>> getChanges() {
+        Flux<ServerSentEvent<PostChangeEvent>> events = postService.getChanges()
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType().name())
+                        .build());
+        Flux<ServerSentEvent<PostChangeEvent>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<PostChangeEvent>builder().comment("heartbeat").build());
+        return Flux.merge(events, heartbeats);
+    }
+
     /**
      * 특정 게시글 조회 (조회수 증가)
      * GET /api/posts/{id}
      */
     @GetMapping("/{id}")
     public Mono<ResponseEntity<Post>> getPostById(@PathVariable Long id) {
-        log.info("GET /api/posts/{} - Getting post by id", id);
-
         return postService.getPostById(id)
                 .map(ResponseEntity::ok)
                 .switchIfEmpty(Mono.just(ResponseEntity.notFound().build()))
-                .onErrorResume(error -> {
+                .onErrorResume(PostController::isNotStatusError, error -> {
                     log.error("Error getting post: {}", id, error);
                     return Mono.just(ResponseEntity.notFound().build());
                 });
@@ -70,7 +91,6 @@ public class PostController {
      */
     @GetMapping("/author/{username}")
     public Flux<Post> getPostsByAuthor(@PathVariable String username) {
-        log.info("GET /api/posts/author/{} - Getting posts by author", username);
         return postService.getPostsByAuthor(username);
     }
 
@@ -80,7 +100,6 @@ public class PostController {
      */
     @GetMapping("/category/{category}")
     public Flux<Post> getPostsByCategory(@PathVariable String category) {
-        log.info("GET /api/posts/category/{} - Getting posts by category", category);
         return postService.getPostsByCategory(category);
     }
 
@@ -90,8 +109,6 @@ public class PostController {
      */
     @PostMapping
     public Mono<ResponseEntity<Post>> createPost(@Valid @RequestBody PostCreateRequest request) {
-        log.info("POST /api/posts - Creating new post: {}", request.getTitle());
-
         // DTO를 Entity로 변환
         Post post = Post.builder()
                 .title(request.getTitle())
@@ -106,7 +123,7 @@ public class PostController {
 
         return postService.createPost(post)
                 .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created))
-                .onErrorResume(error -> {
+                .onErrorResume(PostController::isNotStatusError, error -> {
                     log.error("Error creating post", error);
                     return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
                 });
@@ -120,9 +137,6 @@ public class PostController {
     public Mono<ResponseEntity<Post>> updatePost(
             @PathVariable Long id,
             @Valid @RequestBody PostUpdateRequest request) {
-
-        log.info("PUT /api/posts/{} - Updating post", id);
-
         // DTO를 Entity로 변환
         Post updatedPost = Post.builder()
                 .title(request.getTitle())
@@ -135,7 +149,7 @@ public class PostController {
 
         return postService.updatePost(id, updatedPost)
                 .map(ResponseEntity::ok)
-                .onErrorResume(error -> {
+                .onErrorResume(PostController::isNotStatusError, error -> {
                     log.error("Error updating post: {}", id, error);
                     return Mono.just(ResponseEntity.notFound().build());
                 });
@@ -147,11 +161,9 @@ public class PostController {
      */
     @PostMapping("/{id}/publish")
     public Mono<ResponseEntity<Post>> publishPost(@PathVariable Long id) {
-        log.info("POST /api/posts/{}/publish - Publishing post", id);
-
         return postService.publishPost(id)
                 .map(ResponseEntity::ok)
-                .onErrorResume(error -> {
+                .onErrorResume(PostController::isNotStatusError, error -> {
                     log.error("Error publishing post: {}", id, error);
                     return Mono.just(ResponseEntity.notFound().build());
                 });
@@ -163,23 +175,27 @@ public class PostController {
      */
     @DeleteMapping("/{id}")
     public Mono<ResponseEntity<Void>> deletePost(@PathVariable Long id) {
-        log.info("DELETE /api/posts/{} - Deleting post", id);
-
         return postService.deletePost(id)
                 .then(Mono.just(ResponseEntity.noContent().<Void>build()))
-                .onErrorResume(error -> {
+                .onErrorResume(PostController::isNotStatusError, error -> {
                     log.error("Error deleting post: {}", id, error);
                     return Mono.just(ResponseEntity.notFound().build());
                 });
     }
 
+    /**
+     * 상태 코드가 정해진 예외(503 bulkhead 한도 초과 등)는 그대로 전달하고, 그 외만 각 API의 기본 에러 응답으로 변환
+     */
+    private static boolean isNotStatusError(Throwable error) {
+        return !(error instanceof ResponseStatusException);
+    }
+
     /**
      * 게시글 개수 조회
      * GET /api/posts/count
      */
     @GetMapping("/count")
     public Mono<Long> getPostCount() {
-        log.info("GET /api/posts/count - Getting post count");
         return postService.getPostCount();
     }
 }
@@ -0,0 +1,46 @@
+package org.peace.blog.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.peace.blog.model.ReactionRequest;
+import org.peace.blog.model.ReactionSummary;
+import org.peace.blog.service.ReactionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactionController
+ * 게시글 반응(좋아요 등) REST API 엔드포인트
+ */
+@RestController
+@RequestMapping("/posts/{postId}/reactions")
+@RequiredArgsConstructor
+public class ReactionController {
+
+    private final ReactionService reactionService;
+
+    /**
+     * 반응 수 조회
+     * GET /api/posts/{postId}/reactions
+     */
+    @GetMapping
+    public Mono<ReactionSummary> getReactions(@PathVariable Long postId) {
+        return reactionService.getReactions(postId);
+    }
+
+    /**
+     * 반응 추가
+     * POST /api/posts/{postId}/reactions
+     * - 새 반응이면 201, 이미 한 반응이면 200 (두 경우 모두 현재 반응 수 반환), 게시글이 없으면 404
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ReactionSummary>> react(@PathVariable Long postId,
+                                                       @Valid @RequestBody ReactionRequest request) {
+        return reactionService.react(postId, request.getReaction(), request.getUserKey())
+                .map(reacted -> ResponseEntity
+                        .status(reacted.added() ? HttpStatus.CREATED : HttpStatus.OK)
+                        .body(reacted.summary()));
+    }
+}
@@ -0,0 +1,31 @@
+package org.peace.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Comment 엔티티
+ * - 게시글 댓글 (저장은 CommentWriteBatcher가 여러 건을 한 번에)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("comments")
+public class Comment {
+
+    @Id
+    private Long id;
+
+    private Long postId;        // 게시글 ID
+    private String username;    // 작성자 이름
+    private String content;     // 댓글 내용
+
+    private LocalDateTime createdAt;  // 작성일시 (같은 일괄 저장 건은 같은 값, 순서는 id로 구분)
+}
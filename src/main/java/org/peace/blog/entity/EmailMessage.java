@@ -0,0 +1,37 @@
+package org.peace.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 발송 대기열 엔티티
+ * - email.outbox.durable=true일 때 재시작 후에도 발송되도록 DB에 보관
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("email_outbox")
+public class EmailMessage {
+
+    @Id
+    private Long id;
+
+    private String fromEmail;   // 발신자
+    private String toEmail;     // 수신자
+    private String subject;     // 제목
+    private String body;        // 본문 (텍스트)
+
+    private String status;      // 상태 (PENDING, SENDING, FAILED)
+    private Integer attempts;   // 발송 시도 횟수
+    private String lastError;   // 마지막 실패 사유
+    private LocalDateTime lockedAt;   // 발송 노드 점유 일시
+
+    private LocalDateTime createdAt;  // 생성일시
+}
@@ -0,0 +1,32 @@
+package org.peace.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Image 엔티티
+ * - 업로드된 이미지 메타데이터 (내용의 SHA-256 해시가 곧 ID)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("images")
+public class Image {
+
+    @Id
+    private String hash;        // SHA-256 (hex)
+
+    private Long size;          // 바이트 크기
+    private String mimeType;    // MIME 타입
+    private Integer width;      // 가로 픽셀 (알 수 없으면 null)
+    private Integer height;     // 세로 픽셀 (알 수 없으면 null)
+
+    private LocalDateTime createdAt;  // 최초 업로드 일시
+}
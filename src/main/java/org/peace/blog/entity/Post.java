@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
  * - DB에 저장되는 블로그 게시글 정보
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Table("posts")
@@ -0,0 +1,22 @@
+package org.peace.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인증번호 데이터
+ * - 관리자 로그인 2단계 인증에 사용되는 일회용 코드
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificationCode {
+
+    private String username;         // 관리자 사용자명
+    private String code;             // 6자리 인증번호
+    private LocalDateTime expiresAt; // 만료 일시
+    private int failedAttempts;      // 검증 실패 횟수
+}
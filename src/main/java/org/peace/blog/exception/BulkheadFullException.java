@@ -0,0 +1,30 @@
+package org.peace.blog.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * DB bulkhead 한도 초과 예외
+ * - 503 Service Unavailable + Retry-After 헤더로 응답됨
+ */
+public class BulkheadFullException extends ResponseStatusException {
+
+    private final String bulkhead;
+
+    public BulkheadFullException(String bulkhead) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        this.bulkhead = bulkhead;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return headers;
+    }
+}
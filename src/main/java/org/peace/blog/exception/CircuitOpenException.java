@@ -0,0 +1,23 @@
+package org.peace.blog.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * DB circuit breaker가 열려 있어 조회를 실행하지 않은 경우
+ * - 마지막 정상 응답이 있으면 그것으로 대체되고, 없으면 503 + Retry-After로 응답됨
+ */
+public class CircuitOpenException extends ResponseStatusException {
+
+    public CircuitOpenException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "일시적으로 데이터를 조회할 수 없습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "5");
+        return headers;
+    }
+}
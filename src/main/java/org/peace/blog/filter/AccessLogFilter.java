@@ -0,0 +1,170 @@
+package org.peace.blog.filter;
+
+import org.peace.blog.config.AccessLogProperties;
+import org.peace.blog.util.RequestTimings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AccessLogFilter
+ * 요청 1건당 JSON 한 줄의 접근 로그 (컨트롤러/서비스의 요청별 로그를 대체)
+ * - 로거 org.peace.blog.access → logback-spring.xml의 비동기 appender (Netty 스레드에서 콘솔 I/O 없음)
+ * - 정상 응답은 access-log.sample-rate 비율만 기록, 5xx/예외와 느린 요청은 항상 기록
+ * - Server-Timing 측정 요청(ServerTimingFilter)은 항상 기록하고 구간별 시간을 timings 필드로 포함
+ * - 기록 여부를 먼저 정한 뒤에만 JSON을 만듦 (기록하지 않는 요청은 문자열 생성 없음)
+ */
+public class AccessLogFilter implements WebFilter, Ordered {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("org.peace.blog.access");
+
+    private static final String ERROR_ATTRIBUTE = AccessLogFilter.class.getName() + ".error";
+    // 응답 전에 클라이언트가 연결을 끊은 경우 (nginx 관례)
+    private static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private final AccessLogProperties properties;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(AccessLogProperties properties) {
+        this.properties = properties;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    @Override
+    public int getOrder() {
+        // 다른 필터(요청 제한, 업로드 승인 등)에서 거절된 요청까지 기록
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!properties.isEnabled() || !accessLog.isInfoEnabled() || isExcluded(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+        long startNanos = System.nanoTime();
+        return chain.filter(exchange)
+            .doOnError(error -> exchange.getAttributes().put(ERROR_ATTRIBUTE, error))
+            .doFinally(signal -> complete(exchange, signal, System.nanoTime() - startNanos));
+    }
+
+    private boolean isExcluded(ServerHttpRequest request) {
+        String path = request.getPath().pathWithinApplication().value();
+        for (String prefix : properties.getExcludePathPrefixes()) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void complete(ServerWebExchange exchange, SignalType signal, long durationNanos) {
+        Throwable error = exchange.getAttribute(ERROR_ATTRIBUTE);
+        RequestTimings timings = exchange.getAttribute(ServerTimingFilter.TIMINGS_ATTRIBUTE);
+        int status = resolveStatus(exchange, signal, error);
+
+        String reason;
+        if (status >= 500 || (error != null && !(error instanceof ResponseStatusException))) {
+            reason = "error";
+        } else if (durationNanos >= slowThresholdNanos) {
+            reason = "slow";
+        } else if (timings != null) {
+            reason = "timing";
+        } else if (ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()) {
+            reason = "sample";
+        } else {
+            return;
+        }
+
+        String line = toJson(exchange, status, durationNanos, reason, error, timings);
+        if ("sample".equals(reason) || "timing".equals(reason)) {
+            accessLog.info(line);
+        } else {
+            accessLog.warn(line);
+        }
+    }
+
+    /**
+     * 응답 상태 코드
+     * - 예외로 끝난 경우 응답은 아직 에러 핸들러가 쓰기 전이므로 예외에서 상태를 구함
+     */
+    private static int resolveStatus(ServerWebExchange exchange, SignalType signal, Throwable error) {
+        if (error instanceof ResponseStatusException statusException) {
+            return statusException.getStatusCode().value();
+        }
+        if (error != null) {
+            return 500;
+        }
+        if (signal == SignalType.CANCEL) {
+            return CLIENT_CLOSED_REQUEST;
+        }
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        return statusCode != null ? statusCode.value() : 200;
+    }
+
+    private static String toJson(ServerWebExchange exchange, int status, long durationNanos,
+                                 String reason, Throwable error, RequestTimings timings) {
+        ServerHttpRequest request = exchange.getRequest();
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"time\":\"").append(Instant.now()).append('"');
+        json.append(",\"requestId\":");
+        appendString(json, request.getId());
+        json.append(",\"method\":\"").append(request.getMethod().name()).append('"');
+        json.append(",\"path\":");
+        appendString(json, request.getPath().value());
+        json.append(",\"status\":").append(status);
+        json.append(",\"durationMs\":").append(String.format(Locale.ROOT, "%.3f", durationNanos / 1_000_000.0));
+        json.append(",\"reason\":\"").append(reason).append('"');
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress != null && remoteAddress.getAddress() != null) {
+            json.append(",\"remoteAddress\":\"").append(remoteAddress.getAddress().getHostAddress()).append('"');
+        }
+        String userAgent = request.getHeaders().getFirst("User-Agent");
+        if (userAgent != null) {
+            json.append(",\"userAgent\":");
+            appendString(json, userAgent);
+        }
+        if (error != null) {
+            json.append(",\"error\":");
+            appendString(json, error.getClass().getName() + ": " + error.getMessage());
+        }
+        if (timings != null) {
+            json.append(",\"timings\":").append(timings.toJson());
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
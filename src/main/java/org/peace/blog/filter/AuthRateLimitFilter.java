@@ -0,0 +1,81 @@
+package org.peace.blog.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.AuthRateLimitProperties;
+import org.peace.blog.service.AuthRateLimiter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * AuthRateLimitFilter
+ * 관리자 인증 API(/admin/auth/**) 앞단에서 클라이언트 IP별 요청 제한
+ * - 한도를 넘은 요청은 AuthService에 도달하기 전에 429 + Retry-After로 거절
+ * - username별 제한은 요청 본문이 필요하므로 AuthService 진입 시점에 적용
+ */
+@Slf4j
+public class AuthRateLimitFilter implements WebFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/admin/auth/";
+
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+        "{\"success\":false,\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요\",\"data\":null}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final AuthRateLimiter rateLimiter;
+    private final AuthRateLimitProperties properties;
+
+    public AuthRateLimitFilter(AuthRateLimiter rateLimiter, AuthRateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!HttpMethod.POST.equals(request.getMethod())
+                || !request.getPath().pathWithinApplication().value().startsWith(AUTH_PATH_PREFIX)) {
+            return chain.filter(exchange);
+        }
+
+        String clientIp = resolveClientIp(request);
+        long retryAfter = rateLimiter.tryAcquireIp(clientIp);
+        if (retryAfter == 0) {
+            return chain.filter(exchange);
+        }
+
+        log.warn("IP 요청 한도 초과: {}", clientIp);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory().wrap(TOO_MANY_REQUESTS_BODY);
+        return response.writeWith(Mono.just(body));
+    }
+
+    private String resolveClientIp(ServerHttpRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+}
@@ -0,0 +1,103 @@
+package org.peace.blog.filter;
+
+import org.peace.blog.config.ServerTimingProperties;
+import org.peace.blog.util.RequestTimings;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * ServerTimingFilter
+ * 관리자 토큰 헤더(server-timing.header)가 있는 요청만 구간별 처리 시간을 측정
+ * - RequestTimings를 Reactor Context와 exchange 속성에 넣음 (DB 쿼리, JWT 검증, 직렬화, 캐시 측정 지점이 사용)
+ * - 응답 커밋 직전에 Server-Timing 헤더로 내보내고, 같은 값을 접근 로그에도 기록 (AccessLogFilter)
+ * - 측정 요청은 본문을 모두 만든 뒤 커밋하여 헤더에 전체 DB/직렬화 시간이 포함되도록 함 (진단용 요청만 버퍼링)
+ * - 토큰이 없거나 다르면 헤더 비교 외에는 아무것도 하지 않음
+ */
+public class ServerTimingFilter implements WebFilter, Ordered {
+
+    /**
+     * exchange 속성 키 (접근 로그에서 사용)
+     */
+    public static final String TIMINGS_ATTRIBUTE = RequestTimings.class.getName();
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+    private final byte[] token;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+        this.token = properties.getToken().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int getOrder() {
+        // AccessLogFilter 바로 안쪽 (접근 로그가 측정 결과를 읽을 수 있도록)
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (token.length == 0) {
+            return chain.filter(exchange);
+        }
+        String requestToken = exchange.getRequest().getHeaders().getFirst(properties.getHeader());
+        if (requestToken == null
+                || !MessageDigest.isEqual(token, requestToken.getBytes(StandardCharsets.UTF_8))) {
+            return chain.filter(exchange);
+        }
+
+        RequestTimings timings = new RequestTimings();
+        ServerHttpResponse response = exchange.getResponse();
+        response.beforeCommit(() -> Mono.fromRunnable(() ->
+            response.getHeaders().set(SERVER_TIMING, timings.toServerTiming())));
+        exchange.getAttributes().put(TIMINGS_ATTRIBUTE, timings);
+
+        ServerWebExchange timedExchange = exchange.mutate()
+            .response(new TimedResponse(response, timings))
+            .build();
+        return chain.filter(timedExchange)
+            .contextWrite(context -> context.put(RequestTimings.CONTEXT_KEY, timings));
+    }
+
+    /**
+     * 측정 중인 응답이면 RequestTimings 반환 (JSON 인코더에서 사용)
+     */
+    public static RequestTimings timingsOf(ServerHttpResponse response) {
+        return response instanceof TimedResponse timed ? timed.timings : null;
+    }
+
+    /**
+     * 본문을 모두 모은 뒤 한 번에 쓰는 응답 (커밋 시점에 측정이 끝나도록)
+     * - 스트리밍 응답(writeAndFlushWith, SSE 등)은 그대로 전달
+     */
+    private static final class TimedResponse extends ServerHttpResponseDecorator {
+
+        private final RequestTimings timings;
+
+        TimedResponse(ServerHttpResponse delegate, RequestTimings timings) {
+            super(delegate);
+            this.timings = timings;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body)
+                .map(Flux::just)
+                .defaultIfEmpty(Flux.empty())
+                .flatMap(getDelegate()::writeWith);
+        }
+    }
+}
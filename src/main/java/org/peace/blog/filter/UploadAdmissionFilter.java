@@ -0,0 +1,93 @@
+package org.peace.blog.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ImageUploadProperties;
+import org.peace.blog.service.UploadAdmissionController;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UploadAdmissionFilter
+ * 이미지 업로드 API(/images/upload/**) 앞단에서 승인 제어
+ * - 본문을 읽기 전에 동시 업로드 수 / 처리 중 바이트 / Content-Length를 검사하여 즉시 413, 503 반환
+ * - 본문은 읽는 동안 크기를 세어 한도를 넘으면 중단 (multipart 파싱, Base64 디코딩 모두 적용)
+ */
+@Slf4j
+public class UploadAdmissionFilter implements WebFilter {
+
+    private static final String UPLOAD_PATH = "/images/upload";
+    private static final String BASE64_UPLOAD_PATH = "/images/upload/base64";
+
+    // multipart 경계/헤더 등 파일 외 여유분
+    private static final long ENVELOPE_BYTES = 64 * 1024;
+
+    private final UploadAdmissionController admissionController;
+    private final ImageUploadProperties properties;
+
+    public UploadAdmissionFilter(UploadAdmissionController admissionController, ImageUploadProperties properties) {
+        this.admissionController = admissionController;
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+        if (!HttpMethod.POST.equals(request.getMethod()) || !path.startsWith(UPLOAD_PATH)) {
+            return chain.filter(exchange);
+        }
+
+        UploadAdmissionController.Permit permit;
+        try {
+            permit = admissionController.admit(request.getHeaders().getContentLength(), maxRequestBytes(path));
+        } catch (ResponseStatusException e) {
+            return reject(exchange.getResponse(), e);
+        }
+
+        ServerHttpRequest limited = new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return permit.limit(super.getBody());
+            }
+        };
+        return chain.filter(exchange.mutate().request(limited).build())
+            .doFinally(signal -> permit.release());
+    }
+
+    /**
+     * 요청 1건의 최대 크기 (Base64는 원본의 4/3)
+     */
+    private long maxRequestBytes(String path) {
+        if (path.equals(BASE64_UPLOAD_PATH)) {
+            return properties.getMaxBase64Size().toBytes() / 3 * 4 + ENVELOPE_BYTES;
+        }
+        return properties.getMaxFileSize().toBytes() + ENVELOPE_BYTES;
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, ResponseStatusException error) {
+        response.setStatusCode(error.getStatusCode());
+        // 본문을 읽지 않고 응답하므로 연결 재사용을 기대하지 않음
+        response.getHeaders().set(HttpHeaders.CONNECTION, "close");
+        if (error.getStatusCode().value() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+        }
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        String body = "{\"success\":false,\"message\":\"" + error.getReason() + "\",\"data\":null}";
+        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+}
@@ -0,0 +1,35 @@
+package org.peace.blog.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 작성 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentCreateRequest {
+
+    /**
+     * 작성자 이름 (필수, 1-50자)
+     */
+    @NotBlank(message = "작성자 이름은 필수입니다")
+    @Size(max = 50, message = "작성자 이름은 50자 이하여야 합니다")
+    @Pattern(regexp = "[^\\p{Cntrl}]*", message = "작성자 이름에 제어 문자를 사용할 수 없습니다")
+    private String username;
+
+    /**
+     * 댓글 내용 (필수, 1-2000자)
+     */
+    @NotBlank(message = "내용은 필수입니다")
+    @Size(max = 2000, message = "내용은 2000자 이하여야 합니다")
+    @Pattern(regexp = "[^\\x00]*", message = "내용에 NUL 문자를 사용할 수 없습니다")
+    private String content;
+}
@@ -0,0 +1,34 @@
+package org.peace.blog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.peace.blog.entity.Comment;
+
+import java.util.List;
+
+/**
+ * 댓글 목록 페이지 (keyset 페이지네이션)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPage {
+
+    /**
+     * 댓글 목록 (작성 순)
+     */
+    private List<Comment> comments;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 게시글 전체 댓글 수 (다른 노드의 최근 댓글은 반영 주기만큼 늦게 포함될 수 있음)
+     */
+    private Long commentCount;
+}
@@ -0,0 +1,35 @@
+package org.peace.blog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 반응형 이미지 응답
+ * 프론트엔드에서 <img srcset> / <picture><source type> 에 바로 사용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageSrcSet {
+
+    /**
+     * 원본 이미지 URL
+     */
+    private String src;
+
+    /**
+     * 포맷별 srcset 문자열 (예: "jpeg" -> "https://.../320.jpeg 320w, https://.../640.jpeg 640w")
+     */
+    private Map<String, String> srcset;
+
+    /**
+     * 생성된 변형 목록
+     */
+    private List<ImageVariant> variants;
+}
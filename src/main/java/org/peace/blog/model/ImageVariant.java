@@ -0,0 +1,41 @@
+package org.peace.blog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미지 리사이즈 변형 정보
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariant {
+
+    /**
+     * 가로 픽셀
+     */
+    private Integer width;
+
+    /**
+     * 세로 픽셀
+     */
+    private Integer height;
+
+    /**
+     * 이미지 포맷 (jpeg, png, webp)
+     */
+    private String format;
+
+    /**
+     * 바이트 크기
+     */
+    private Long size;
+
+    /**
+     * 변형 이미지 URL
+     */
+    private String url;
+}
@@ -0,0 +1,47 @@
+package org.peace.blog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 이벤트 (GET /posts/changes, 노드 간 NOTIFY payload)
+ * - 본문은 담지 않음 (필요하면 postId로 다시 조회)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostChangeEvent {
+
+    public enum Type {
+        CREATED, UPDATED, PUBLISHED, DELETED,
+        /**
+         * 변경 알림 연결이 끊겼다가 다시 연결됨 (그 사이 변경을 놓쳤을 수 있으므로 다시 조회 필요)
+         */
+        RESYNC
+    }
+
+    /**
+     * 변경 종류
+     */
+    private Type type;
+
+    /**
+     * 게시글 ID (RESYNC는 null)
+     */
+    private Long postId;
+
+    /**
+     * 변경 후 상태 (DRAFT, PUBLISHED, ARCHIVED)
+     */
+    private String status;
+
+    /**
+     * 변경 시각
+     */
+    private LocalDateTime occurredAt;
+}
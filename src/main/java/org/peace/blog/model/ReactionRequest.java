@@ -0,0 +1,34 @@
+package org.peace.blog.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 반응 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactionRequest {
+
+    /**
+     * 반응 종류 (reactions.types 중 하나, 예: LIKE)
+     */
+    @NotBlank(message = "반응 종류는 필수입니다")
+    @Size(max = 20, message = "반응 종류는 20자 이하여야 합니다")
+    private String reaction;
+
+    /**
+     * 사용자 식별 키 (로그인하지 않은 사용자는 클라이언트가 발급한 익명 ID)
+     */
+    @NotBlank(message = "사용자 식별 키는 필수입니다")
+    @Size(max = 64, message = "사용자 식별 키는 64자 이하여야 합니다")
+    @Pattern(regexp = "[^\\p{Cntrl}]*", message = "사용자 식별 키에 제어 문자를 사용할 수 없습니다")
+    private String userKey;
+}
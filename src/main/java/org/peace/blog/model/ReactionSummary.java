@@ -0,0 +1,28 @@
+package org.peace.blog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 게시글 반응 수
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactionSummary {
+
+    /**
+     * 게시글 ID
+     */
+    private Long postId;
+
+    /**
+     * 반응 종류별 수 (다른 노드의 최근 반응은 반영 주기 + 캐시 시간만큼 늦게 포함될 수 있음)
+     */
+    private Map<String, Long> counts;
+}
@@ -0,0 +1,68 @@
+package org.peace.blog.repository;
+
+import org.peace.blog.entity.Comment;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Comment Repository
+ * - 목록은 (created_at, id) 기준 keyset 페이지네이션 (V11 idx_comments_post_created_at_id 사용, OFFSET 없음)
+ * - 댓글 저장은 CommentWriteBatcher에서 일괄로 처리
+ */
+@Repository
+public interface CommentRepository extends ReactiveCrudRepository<Comment, Long> {
+
+    /**
+     * 게시글의 첫 페이지 (작성 순)
+     */
+    @Query("""
+        SELECT * FROM comments
+        WHERE post_id = :postId
+        ORDER BY created_at, id
+        LIMIT :limit
+        """)
+    Flux<Comment> findFirstPage(Long postId, int limit);
+
+    /**
+     * 커서(마지막으로 받은 댓글의 작성일시, id) 다음 페이지
+     */
+    @Query("""
+        SELECT * FROM comments
+        WHERE post_id = :postId AND (created_at, id) > (:createdAt, :id)
+        ORDER BY created_at, id
+        LIMIT :limit
+        """)
+    Flux<Comment> findPageAfter(Long postId, LocalDateTime createdAt, Long id, int limit);
+
+    /**
+     * DB에 반영된 댓글 수 (반영 전 증가분은 CommentCountBuffer에 있음)
+     */
+    @Query("SELECT comment_count FROM post_comment_counts WHERE post_id = :postId")
+    Mono<Long> findCommentCount(Long postId);
+
+    /**
+     * 게시글별 댓글 수 증가분을 한 번에 반영 (CommentCountBuffer)
+     * - 노드 간 교착을 피하려고 post_id 순서로 반영, 그사이 삭제된 게시글은 건너뜀
+     * @param postIds 게시글 ID 배열
+     * @param deltas postIds와 같은 순서의 증가분
+     * @return 반영된 행 수
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO post_comment_counts (post_id, comment_count, updated_at)
+        SELECT v.post_id, v.delta, now()
+        FROM unnest(CAST(:postIds AS BIGINT[]), CAST(:deltas AS BIGINT[])) AS v(post_id, delta)
+        JOIN posts p ON p.id = v.post_id
+        ORDER BY v.post_id
+        ON CONFLICT (post_id) DO UPDATE
+        SET comment_count = post_comment_counts.comment_count + EXCLUDED.comment_count,
+            updated_at = EXCLUDED.updated_at
+        """)
+    Mono<Integer> incrementCommentCounts(Long[] postIds, Long[] deltas);
+}
@@ -0,0 +1,58 @@
+package org.peace.blog.repository;
+
+import org.peace.blog.entity.EmailMessage;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * EmailOutbox Repository
+ * - R2DBC 기반 리액티브 저장소
+ */
+@Repository
+public interface EmailOutboxRepository extends ReactiveCrudRepository<EmailMessage, Long> {
+
+    /**
+     * 미발송 메시지를 SENDING으로 표시하며 가져옴
+     * - FOR UPDATE SKIP LOCKED로 여러 노드가 같은 메시지를 가져가지 않음
+     * - 오래된 SENDING 메시지(발송 중 종료된 노드)는 다시 가져감
+     */
+    @Query("""
+        UPDATE email_outbox SET status = 'SENDING', locked_at = :now
+        WHERE id IN (
+            SELECT id FROM email_outbox
+            WHERE status = 'PENDING' OR (status = 'SENDING' AND locked_at < :stuckBefore)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING *
+        """)
+    Flux<EmailMessage> claimPending(LocalDateTime now, LocalDateTime stuckBefore, int limit);
+
+    /**
+     * 재시도 대기 (점유 시각을 갱신하여 다른 노드가 가져가지 않도록 함)
+     */
+    @Modifying
+    @Query("""
+        UPDATE email_outbox SET attempts = :attempts, last_error = :lastError, locked_at = :lockedAt
+        WHERE id = :id
+        """)
+    Mono<Integer> markRetrying(Long id, int attempts, String lastError, LocalDateTime lockedAt);
+
+    /**
+     * 최종 실패 (본문에 인증번호가 있으므로 제거)
+     */
+    @Modifying
+    @Query("""
+        UPDATE email_outbox SET status = 'FAILED', attempts = :attempts, last_error = :lastError,
+                                body = '', locked_at = NULL
+        WHERE id = :id
+        """)
+    Mono<Integer> markFailed(Long id, int attempts, String lastError);
+}
@@ -0,0 +1,13 @@
+package org.peace.blog.repository;
+
+import org.peace.blog.entity.Image;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Image Repository
+ * - R2DBC 기반 리액티브 저장소 (ID = 내용 해시)
+ */
+@Repository
+public interface ImageRepository extends ReactiveCrudRepository<Image, String> {
+}
@@ -0,0 +1,92 @@
+package org.peace.blog.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.VerificationStoreProperties;
+import org.peace.blog.entity.VerificationCode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 인증번호 저장소 (기본값)
+ * - 만료된 코드는 주기적으로 제거되어 버려진 요청이 쌓이지 않음
+ * - 최대 보관 건수를 넘으면 새 요청을 429로 거절
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "auth.verification", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final Map<String, VerificationCode> codes = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public InMemoryVerificationCodeStore(VerificationStoreProperties properties) {
+        this.maxEntries = properties.getMaxEntries();
+    }
+
+    @Override
+    public Mono<Void> save(String username, String code, Duration ttl) {
+        return Mono.fromRunnable(() -> {
+            if (!codes.containsKey(username) && codes.size() >= maxEntries) {
+                sweepExpired();
+                if (codes.size() >= maxEntries) {
+                    throw new ResponseStatusException(
+                        HttpStatus.TOO_MANY_REQUESTS, "인증 요청이 많습니다. 잠시 후 다시 시도해주세요");
+                }
+            }
+            codes.put(username, new VerificationCode(username, code, LocalDateTime.now().plus(ttl), 0));
+        });
+    }
+
+    @Override
+    public Mono<VerificationCode> find(String username) {
+        return Mono.defer(() -> {
+            VerificationCode data = codes.get(username);
+            if (data == null) {
+                return Mono.empty();
+            }
+            if (!data.getExpiresAt().isAfter(LocalDateTime.now())) {
+                codes.remove(username, data);
+                return Mono.empty();
+            }
+            return Mono.just(data);
+        });
+    }
+
+    @Override
+    public Mono<Integer> recordFailure(String username) {
+        return Mono.fromCallable(() -> {
+            VerificationCode updated = codes.computeIfPresent(username, (key, data) ->
+                new VerificationCode(data.getUsername(), data.getCode(), data.getExpiresAt(),
+                    data.getFailedAttempts() + 1));
+            return updated == null ? null : updated.getFailedAttempts();
+        });
+    }
+
+    @Override
+    public Mono<Void> remove(String username) {
+        return Mono.fromRunnable(() -> codes.remove(username));
+    }
+
+    /**
+     * 만료된 인증번호 정리
+     */
+    @Scheduled(fixedDelayString = "${auth.verification.sweep-interval-ms:30000}")
+    public void sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int before = codes.size();
+        codes.values().removeIf(data -> !data.getExpiresAt().isAfter(now));
+        int removed = before - codes.size();
+        if (removed > 0) {
+            log.debug("만료된 인증번호 정리: {}건", removed);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.peace.blog.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ImageStorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 로컬 디스크 오브젝트 저장소 (기본값)
+ * - 같은 파일 시스템의 임시 파일을 원자적으로 이동하므로 내용 복사가 없음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "image.storage", name = "type", havingValue = "local", matchIfMissing = true)
+public class LocalObjectStore implements ObjectStore {
+
+    private final Path root;
+
+    public LocalObjectStore(ImageStorageProperties properties) throws IOException {
+        this.root = Files.createDirectories(Paths.get(properties.getRoot()).toAbsolutePath().normalize());
+        log.info("Local object store root: {}", root);
+    }
+
+    @Override
+    public Mono<Void> put(String key, Path source, long size, String contentType) {
+        return Mono.<Void>fromCallable(() -> {
+                Path target = resolve(key);
+                Files.createDirectories(target.getParent());
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return null;
+            })
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Path> fetch(String key, Path target) {
+        return Mono.just(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    @Override
+    public Optional<URI> redirectUri(String key) {
+        return Optional.empty();
+    }
+
+    private Path resolve(String key) {
+        return root.resolve(key);
+    }
+}
@@ -0,0 +1,38 @@
+package org.peace.blog.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 오브젝트 저장소 (이미지 원본/변형 파일)
+ * - 구현체: LocalObjectStore (로컬 디스크), S3ObjectStore (S3 호환 저장소)
+ * - image.storage.type 설정으로 선택
+ * - key는 "objects/ab/cd/{hash}" 형태의 상대 경로
+ */
+public interface ObjectStore {
+
+    /**
+     * 파일 저장 (같은 key가 있으면 덮어씀)
+     * - source는 저장소가 가져가며 호출 후 남아 있지 않음 (이동 또는 업로드 후 삭제)
+     */
+    Mono<Void> put(String key, Path source, long size, String contentType);
+
+    /**
+     * 로컬 파일로 내려받기 (로컬 저장소는 복사 없이 원래 경로 반환)
+     * @return 읽을 수 있는 파일 경로
+     */
+    Mono<Path> fetch(String key, Path target);
+
+    /**
+     * 로컬 파일 경로 (zero-copy 전송용, 로컬 저장소가 아니면 empty)
+     */
+    Optional<Path> localPath(String key);
+
+    /**
+     * 클라이언트가 직접 받을 수 있는 URL (로컬 저장소는 empty)
+     */
+    Optional<URI> redirectUri(String key);
+}
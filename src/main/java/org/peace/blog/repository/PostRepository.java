@@ -1,40 +1,96 @@
 package org.peace.blog.repository;
 
 import org.peace.blog.entity.Post;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * Post Repository
  * - R2DBC 기반 리액티브 저장소
+ * - 목록 조회는 DB에서 생성일시 역순으로 정렬 (V9 복합 인덱스 사용, PostRepositoryQueryPlanTest로 실행 계획 검증)
+ * - 수정/발행은 바뀌는 컬럼만 UPDATE (행 전체를 save하면 그 사이 ViewCountBuffer가 반영한 조회수를 덮어씀)
  */
 @Repository
 public interface PostRepository extends ReactiveCrudRepository<Post, Long> {
 
     /**
-     * 작성자 username으로 게시글 목록 조회
+     * 전체 게시글을 생성일시 역순으로 조회
      */
-    Flux<Post> findByUsername(String username);
+    Flux<Post> findAllByOrderByCreatedAtDesc();
 
     /**
-     * 상태별 게시글 목록 조회
+     * 작성자 username으로 게시글 목록을 생성일시 역순으로 조회
      */
-    Flux<Post> findByStatus(String status);
+    Flux<Post> findByUsernameOrderByCreatedAtDesc(String username);
 
     /**
-     * 카테고리별 게시글 목록 조회
+     * 카테고리별 게시글 목록을 생성일시 역순으로 조회
      */
-    Flux<Post> findByCategory(String category);
+    Flux<Post> findByCategoryOrderByCreatedAtDesc(String category);
 
     /**
-     * 작성자 username과 상태로 게시글 목록 조회
+     * 작성자 username과 상태로 게시글 목록을 생성일시 역순으로 조회
      */
-    Flux<Post> findByUsernameAndStatus(String username, String status);
+    Flux<Post> findByUsernameAndStatusOrderByCreatedAtDesc(String username, String status);
 
     /**
      * 상태별 게시글을 생성일시 역순으로 조회
      */
     Flux<Post> findByStatusOrderByCreatedAtDesc(String status);
+
+    /**
+     * 조회수 상위 발행 게시글 조회 (V10 부분 인덱스 사용)
+     */
+    @Query("SELECT * FROM posts WHERE status = 'PUBLISHED' ORDER BY view_count DESC LIMIT :limit")
+    Flux<Post> findMostViewedPublished(int limit);
+
+    /**
+     * 최근 발행 게시글 조회 (발행 게시글 목록과 같은 생성일시 역순)
+     */
+    @Query("SELECT * FROM posts WHERE status = 'PUBLISHED' ORDER BY created_at DESC LIMIT :limit")
+    Flux<Post> findRecentPublished(int limit);
+
+    /**
+     * 게시글 내용 수정 (조회수/상태/발행일시는 건드리지 않음)
+     * @return 수정된 게시글 (없으면 empty)
+     */
+    @Query("""
+        UPDATE posts SET title = :title, content = :content, summary = :summary, category = :category,
+                         tags = :tags, comment_enabled = :commentEnabled, updated_at = :updatedAt
+        WHERE id = :id
+        RETURNING *
+        """)
+    Mono<Post> updateContent(Long id, String title, String content, String summary, String category,
+                             String[] tags, Boolean commentEnabled, LocalDateTime updatedAt);
+
+    /**
+     * 게시글 발행 (상태/발행일시/수정일시만 변경)
+     * @return 발행된 게시글 (없으면 empty)
+     */
+    @Query("""
+        UPDATE posts SET status = 'PUBLISHED', published_at = :publishedAt, updated_at = :publishedAt
+        WHERE id = :id
+        RETURNING *
+        """)
+    Mono<Post> publish(Long id, LocalDateTime publishedAt);
+
+    /**
+     * 게시글별 조회수 증가분을 한 번에 반영 (ViewCountBuffer)
+     * @param ids 게시글 ID 배열
+     * @param deltas ids와 같은 순서의 증가분
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("""
+        UPDATE posts p SET view_count = p.view_count + v.delta
+        FROM unnest(CAST(:ids AS BIGINT[]), CAST(:deltas AS BIGINT[])) AS v(id, delta)
+        WHERE p.id = v.id
+        """)
+    Mono<Integer> incrementViewCounts(Long[] ids, Long[] deltas);
 }
@@ -0,0 +1,97 @@
+package org.peace.blog.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.entity.VerificationCode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * PostgreSQL 기반 인증번호 저장소
+ * - verification_codes UNLOGGED 테이블을 여러 노드가 공유하므로 sticky session 없이 /verify 가능
+ * - 만료된 행은 주기적으로 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auth.verification", name = "store", havingValue = "postgres")
+public class PostgresVerificationCodeStore implements VerificationCodeStore {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> save(String username, String code, Duration ttl) {
+        return databaseClient.sql("""
+                INSERT INTO verification_codes (username, code, expires_at, failed_attempts)
+                VALUES (:username, :code, :expiresAt, 0)
+                ON CONFLICT (username) DO UPDATE
+                SET code = EXCLUDED.code, expires_at = EXCLUDED.expires_at, failed_attempts = 0
+                """)
+            .bind("username", username)
+            .bind("code", code)
+            .bind("expiresAt", LocalDateTime.now().plus(ttl))
+            .then();
+    }
+
+    @Override
+    public Mono<VerificationCode> find(String username) {
+        return databaseClient.sql("""
+                SELECT username, code, expires_at, failed_attempts FROM verification_codes
+                WHERE username = :username AND expires_at > :now
+                """)
+            .bind("username", username)
+            .bind("now", LocalDateTime.now())
+            .map((row, metadata) -> new VerificationCode(
+                row.get("username", String.class),
+                row.get("code", String.class),
+                row.get("expires_at", LocalDateTime.class),
+                row.get("failed_attempts", Integer.class)))
+            .one();
+    }
+
+    @Override
+    public Mono<Integer> recordFailure(String username) {
+        return databaseClient.sql("""
+                UPDATE verification_codes SET failed_attempts = failed_attempts + 1
+                WHERE username = :username
+                RETURNING failed_attempts
+                """)
+            .bind("username", username)
+            .map((row, metadata) -> row.get("failed_attempts", Integer.class))
+            .one();
+    }
+
+    @Override
+    public Mono<Void> remove(String username) {
+        return databaseClient.sql("DELETE FROM verification_codes WHERE username = :username")
+            .bind("username", username)
+            .then();
+    }
+
+    /**
+     * 만료된 인증번호 정리
+     */
+    @Scheduled(fixedDelayString = "${auth.verification.sweep-interval-ms:30000}")
+    public Mono<Void> sweepExpired() {
+        return databaseClient.sql("DELETE FROM verification_codes WHERE expires_at <= :now")
+            .bind("now", LocalDateTime.now())
+            .fetch()
+            .rowsUpdated()
+            .doOnNext(removed -> {
+                if (removed > 0) {
+                    log.debug("만료된 인증번호 정리: {}건", removed);
+                }
+            })
+            .onErrorResume(e -> {
+                log.warn("만료된 인증번호 정리 실패", e);
+                return Mono.empty();
+            })
+            .then();
+    }
+}
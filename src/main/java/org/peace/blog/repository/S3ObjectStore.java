@@ -0,0 +1,211 @@
+package org.peace.blog.repository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ImageStorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * S3 호환 오브젝트 저장소
+ * - 작은 파일은 PutObject 1회, part-size 이상은 멀티파트 업로드
+ * - 멀티파트 파트는 파일의 해당 구간을 직접 읽어 전송하므로 파일 전체를 메모리에 올리지 않음
+ * - 동시에 전송하는 파트 수는 max-in-flight-parts로 제한
+ * - endpoint / path-style 설정으로 MinIO 등 로컬 S3 호환 서버에서도 동작
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "image.storage", name = "type", havingValue = "s3")
+public class S3ObjectStore implements ObjectStore {
+
+    // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final ImageStorageProperties.S3 properties;
+    private final S3AsyncClient client;
+    private final S3Presigner presigner;
+    private final long partSize;
+
+    public S3ObjectStore(ImageStorageProperties storageProperties) {
+        this.properties = storageProperties.getS3();
+        this.partSize = Math.max(MIN_PART_SIZE, properties.getPartSize().toBytes());
+
+        Region region = Region.of(properties.getRegion());
+        AwsCredentialsProvider credentials = credentialsProvider();
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+            .pathStyleAccessEnabled(properties.isPathStyleAccess())
+            .build();
+
+        var clientBuilder = S3AsyncClient.builder()
+            .region(region)
+            .credentialsProvider(credentials)
+            .serviceConfiguration(serviceConfiguration);
+        var presignerBuilder = S3Presigner.builder()
+            .region(region)
+            .credentialsProvider(credentials)
+            .serviceConfiguration(serviceConfiguration);
+        if (StringUtils.hasText(properties.getEndpoint())) {
+            URI endpoint = URI.create(properties.getEndpoint());
+            clientBuilder.endpointOverride(endpoint);
+            presignerBuilder.endpointOverride(endpoint);
+        }
+        this.client = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+        log.info("S3 object store: bucket={}, endpoint={}, partSize={}, maxInFlightParts={}",
+            properties.getBucket(), properties.getEndpoint(), partSize, properties.getMaxInFlightParts());
+    }
+
+    @Override
+    public Mono<Void> put(String key, Path source, long size, String contentType) {
+        Mono<Void> upload = size < partSize
+            ? putObject(key, source, size, contentType)
+            : multipartUpload(key, source, size, contentType);
+        return upload.doFinally(signal -> deleteQuietly(source));
+    }
+
+    private Mono<Void> putObject(String key, Path source, long size, String contentType) {
+        return Mono.fromFuture(() -> client.putObject(
+                request -> request.bucket(properties.getBucket())
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(size),
+                AsyncRequestBody.fromFile(source)))
+            .then();
+    }
+
+    /**
+     * 멀티파트 업로드
+     * - 파트는 최대 max-in-flight-parts개까지 동시에 전송하고, 완료 요청에는 파트 번호 순서로 전달
+     * - 실패/취소 시 업로드를 중단하여 미완성 파트가 과금되지 않도록 함
+     */
+    private Mono<Void> multipartUpload(String key, Path source, long size, String contentType) {
+        int partCount = (int) ((size + partSize - 1) / partSize);
+
+        return Mono.fromFuture(() -> client.createMultipartUpload(request -> request
+                .bucket(properties.getBucket())
+                .key(key)
+                .contentType(contentType)))
+            .flatMap(created -> {
+                String uploadId = created.uploadId();
+                return Flux.range(1, partCount)
+                    .flatMapSequential(partNumber -> uploadPart(key, uploadId, source, size, partNumber),
+                        properties.getMaxInFlightParts())
+                    .collectList()
+                    .flatMap(parts -> Mono.fromFuture(() -> client.completeMultipartUpload(request -> request
+                        .bucket(properties.getBucket())
+                        .key(key)
+                        .uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build()))))
+                    .then()
+                    .onErrorResume(error -> abort(key, uploadId).then(Mono.error(error)))
+                    .doOnCancel(() -> abort(key, uploadId).subscribe());
+            });
+    }
+
+    private Mono<CompletedPart> uploadPart(String key, String uploadId, Path source, long size, int partNumber) {
+        long position = (partNumber - 1) * partSize;
+        long length = Math.min(partSize, size - position);
+        AsyncRequestBody body = AsyncRequestBody.fromFile(FileRequestBodyConfiguration.builder()
+            .path(source)
+            .position(position)
+            .numBytesToRead(length)
+            .build());
+
+        return Mono.fromFuture(() -> client.uploadPart(request -> request
+                    .bucket(properties.getBucket())
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .contentLength(length),
+                body))
+            .map(response -> CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .build());
+    }
+
+    private Mono<Void> abort(String key, String uploadId) {
+        return Mono.fromFuture(() -> client.abortMultipartUpload(request -> request
+                .bucket(properties.getBucket())
+                .key(key)
+                .uploadId(uploadId)))
+            .then()
+            .onErrorResume(error -> {
+                log.warn("멀티파트 업로드 중단 실패: key={}, uploadId={}", key, uploadId, error);
+                return Mono.empty();
+            });
+    }
+
+    @Override
+    public Mono<Path> fetch(String key, Path target) {
+        return Mono.fromFuture(() -> client.getObject(
+                request -> request.bucket(properties.getBucket()).key(key),
+                AsyncResponseTransformer.toFile(target)))
+            .thenReturn(target)
+            .doOnError(error -> deleteQuietly(target));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * public-base-url이 있으면 공개 URL, 없으면 presigned GET URL
+     */
+    @Override
+    public Optional<URI> redirectUri(String key) {
+        if (StringUtils.hasText(properties.getPublicBaseUrl())) {
+            return Optional.of(URI.create(properties.getPublicBaseUrl() + "/" + key));
+        }
+        return Optional.of(URI.create(presigner.presignGetObject(presign -> presign
+                .signatureDuration(properties.getPresignTtl())
+                .getObjectRequest(request -> request.bucket(properties.getBucket()).key(key)))
+            .url()
+            .toString()));
+    }
+
+    private AwsCredentialsProvider credentialsProvider() {
+        if (StringUtils.hasText(properties.getAccessKey())) {
+            return StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(properties.getAccessKey(), properties.getSecretKey()));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        client.close();
+        presigner.close();
+    }
+}
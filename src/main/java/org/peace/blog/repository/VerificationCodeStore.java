@@ -0,0 +1,35 @@
+package org.peace.blog.repository;
+
+import org.peace.blog.entity.VerificationCode;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 인증번호 저장소
+ * - 구현체: InMemoryVerificationCodeStore (노드 로컬), PostgresVerificationCodeStore (노드 간 공유)
+ * - auth.verification.store 설정으로 선택
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 인증번호 저장 (같은 username의 기존 코드는 덮어씀)
+     */
+    Mono<Void> save(String username, String code, Duration ttl);
+
+    /**
+     * 유효한 인증번호 조회 (없거나 만료된 경우 empty)
+     */
+    Mono<VerificationCode> find(String username);
+
+    /**
+     * 검증 실패 횟수 1 증가
+     * @return 증가된 실패 횟수 (인증번호가 없으면 empty)
+     */
+    Mono<Integer> recordFailure(String username);
+
+    /**
+     * 인증번호 삭제
+     */
+    Mono<Void> remove(String username);
+}
@@ -0,0 +1,91 @@
+package org.peace.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.AuthRateLimitProperties;
+import org.peace.blog.exception.RateLimitExceededException;
+import org.peace.blog.util.TokenBucket;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 API 요청 제한기
+ * - 클라이언트 IP / username별 토큰 버킷
+ * - 가득 찬(= 새 것과 같은) 버킷은 주기적으로 제거되고, 최대 키 수를 넘으면 공용 버킷을 사용
+ */
+@Slf4j
+@Component
+public class AuthRateLimiter {
+
+    private final AuthRateLimitProperties properties;
+
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> usernameBuckets = new ConcurrentHashMap<>();
+
+    // 키 수 초과 시 사용하는 공용 버킷
+    private final TokenBucket ipOverflowBucket;
+    private final TokenBucket usernameOverflowBucket;
+
+    public AuthRateLimiter(AuthRateLimitProperties properties) {
+        this.properties = properties;
+        long now = System.nanoTime();
+        this.ipOverflowBucket = new TokenBucket(properties.getIpCapacity(), properties.getIpRefillPerMinute(), now);
+        this.usernameOverflowBucket = new TokenBucket(
+            properties.getUsernameCapacity(), properties.getUsernameRefillPerMinute(), now);
+    }
+
+    /**
+     * 클라이언트 IP 요청 허용 여부
+     * @return 0이면 허용, 양수면 Retry-After 초
+     */
+    public long tryAcquireIp(String clientIp) {
+        return tryAcquire(ipBuckets, ipOverflowBucket, clientIp,
+            properties.getIpCapacity(), properties.getIpRefillPerMinute());
+    }
+
+    /**
+     * username 요청 제한 확인 (초과 시 RateLimitExceededException)
+     */
+    public Mono<Void> checkUsername(String username) {
+        return Mono.defer(() -> {
+            if (username == null) {
+                return Mono.empty();
+            }
+            long retryAfter = tryAcquire(usernameBuckets, usernameOverflowBucket, username,
+                properties.getUsernameCapacity(), properties.getUsernameRefillPerMinute());
+            if (retryAfter > 0) {
+                log.warn("username 요청 한도 초과: {}", username);
+                return Mono.error(new RateLimitExceededException(
+                    "요청이 너무 많습니다. 잠시 후 다시 시도해주세요", retryAfter));
+            }
+            return Mono.empty();
+        });
+    }
+
+    private long tryAcquire(Map<String, TokenBucket> buckets, TokenBucket overflow, String key,
+                            int capacity, int refillPerMinute) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.size() < properties.getMaxKeys()
+                ? buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerMinute, now))
+                : overflow;
+        }
+        long waitNanos = bucket.tryConsume(now);
+        return waitNanos == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+    }
+
+    /**
+     * 가득 찬 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${auth.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        usernameBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
@@ -1,19 +1,21 @@
 package org.peace.blog.service;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.AuthRateLimitProperties;
+import org.peace.blog.config.VerificationStoreProperties;
 import org.peace.blog.repository.UserRepository;
+import org.peace.blog.repository.VerificationCodeStore;
+import org.peace.blog.entity.User;
 import org.peace.blog.util.JwtUtil;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.peace.blog.util.RequestTimings;
+import org.peace.blog.util.VerificationCodeGenerator;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
-import java.security.SecureRandom;
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * 관리자 인증 서비스
  */
@@ -23,120 +25,187 @@ import java.util.concurrent.ConcurrentHashMap;
 public class AuthService {
 
     private final UserRepository userRepository;
+    // DB 호출 동시 실행 한도 (인증 전용 bulkhead)
+    private final DatabaseBulkheads bulkheads;
     private final EmailService emailService;
     private final JwtUtil jwtUtil;
+    private final VerificationCodeGenerator codeGenerator;
+
+    // BCrypt 연산은 전용 스케줄러에서 실행
+    private final PasscodeHasher passcodeHasher;
+
+    // 인증번호 저장소 (auth.verification.store 설정에 따라 메모리/PostgreSQL)
+    private final VerificationCodeStore verificationStore;
+    private final VerificationStoreProperties verificationProperties;
 
-    // BCrypt 패스워드 인코더
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    // username별 요청 제한 / 검증 실패 허용 횟수
+    private final AuthRateLimiter rateLimiter;
+    private final AuthRateLimitProperties rateLimitProperties;
 
-    // 인증번호 저장소 (username -> VerificationData)
-    private final Map<String, VerificationData> verificationStore = new ConcurrentHashMap<>();
+    // JWT 폐기 목록
+    private final TokenRevocationService tokenRevocationService;
 
-    private static final int CODE_LENGTH = 6;
-    private static final Duration CODE_EXPIRATION = Duration.ofMinutes(5);
+    private static final String ADMIN_ROLE = "ADMIN";
     
     /**
      * 인증번호 요청
      * - username과 passcode 검증 후 이메일 발송
      */
     public Mono<String> requestVerificationCode(String username, String passcode) {
-        return userRepository.findByUsername(username)
+        return rateLimiter.checkUsername(username)
+            .then(bulkheads.auth(userRepository.findByUsername(username)))
             .switchIfEmpty(Mono.error(new RuntimeException("존재하지 않는 사용자입니다")))
+            .flatMap(user -> passcodeHasher.matches(passcode, user.getPasscode())
+                .flatMap(matched -> {
+                    // BCrypt를 사용한 패스코드 검증
+                    if (!matched) {
+                        return Mono.<User>error(new RuntimeException("패스코드가 일치하지 않습니다"));
+                    }
+                    return rehashIfNeeded(user, passcode);
+                }))
             .flatMap(user -> {
-                // BCrypt를 사용한 패스코드 검증
-                if (!passwordEncoder.matches(passcode, user.getPasscode())) {
-                    return Mono.error(new RuntimeException("패스코드가 일치하지 않습니다"));
-                }
-
                 // 인증번호 생성
-                String code = generateVerificationCode();
-
-                // 저장소에 저장
-                verificationStore.put(username, new VerificationData(code, LocalDateTime.now()));
+                String code = codeGenerator.generate();
 
-                log.info("인증번호 생성: {} -> {}", username, code);
-
-                // 이메일 발송
-                return emailService.sendVerificationCode(user.getEmail(), code)
+                // 저장소에 저장 후 이메일 발송
+                return verificationStore.save(username, code, verificationProperties.getTtl())
+                    .doOnSuccess(v -> log.debug("인증번호 생성: {}", username))
+                    .then(emailService.sendVerificationCode(user.getEmail(), code))
                     .thenReturn("인증번호가 이메일로 발송되었습니다");
             });
     }
     
+    /**
+     * BCrypt cost 설정이 바뀐 경우 로그인 성공 시점에 새 cost로 재해시
+     * - 재해시 실패는 로그인 흐름을 막지 않음
+     */
+    private Mono<User> rehashIfNeeded(User user, String rawPasscode) {
+        if (!passcodeHasher.needsRehash(user.getPasscode())) {
+            return Mono.just(user);
+        }
+        return passcodeHasher.encode(rawPasscode)
+            .flatMap(encoded -> {
+                user.setPasscode(encoded);
+                return bulkheads.auth(userRepository.save(user));
+            })
+            .doOnSuccess(u -> log.info("패스코드 재해시 완료: {}", u.getUsername()))
+            .onErrorResume(e -> {
+                log.warn("패스코드 재해시 실패: {}", user.getUsername(), e);
+                return Mono.just(user);
+            });
+    }
+
     /**
      * 인증번호 검증 및 JWT 발급
      */
     public Mono<String> verifyCodeAndGenerateToken(String username, String code) {
-        VerificationData data = verificationStore.get(username);
-        
-        if (data == null) {
-            return Mono.error(new RuntimeException("인증번호 요청 내역이 없습니다"));
-        }
-        
-        // 만료 시간 확인
-        if (Duration.between(data.getCreatedAt(), LocalDateTime.now()).compareTo(CODE_EXPIRATION) > 0) {
-            verificationStore.remove(username);
-            return Mono.error(new RuntimeException("인증번호가 만료되었습니다"));
-        }
-        
-        // 인증번호 확인
-        if (!data.getCode().equals(code)) {
-            return Mono.error(new RuntimeException("인증번호가 일치하지 않습니다"));
-        }
-        
-        // 사용된 인증번호 제거
-        verificationStore.remove(username);
-        
-        // JWT 생성
-        return jwtUtil.generateToken(username)
-            .doOnSuccess(r -> log.info("JWT 발급 완료: {}", username) );
+        return rateLimiter.checkUsername(username)
+            .then(verificationStore.find(username))
+            .switchIfEmpty(Mono.error(new RuntimeException("인증번호 요청 내역이 없거나 만료되었습니다")))
+            .flatMap(data -> {
+                // 인증번호 확인 (실패 횟수 초과 시 인증번호 폐기)
+                if (!data.getCode().equals(code)) {
+                    return recordFailedVerify(username);
+                }
 
+                // 사용된 인증번호 제거 후 JWT 생성
+                return verificationStore.remove(username)
+                    .then(bulkheads.auth(jwtUtil.generateToken(username)));
+            })
+            .doOnSuccess(r -> log.debug("JWT 발급 완료: {}", username));
     }
     
+    /**
+     * 인증번호 검증 실패 기록
+     * - 허용 횟수를 넘으면 인증번호를 폐기하여 무차별 대입을 차단
+     */
+    private Mono<String> recordFailedVerify(String username) {
+        return verificationStore.recordFailure(username)
+            .defaultIfEmpty(rateLimitProperties.getMaxFailedVerifies())
+            .flatMap(attempts -> {
+                if (attempts >= rateLimitProperties.getMaxFailedVerifies()) {
+                    log.warn("인증번호 검증 실패 횟수 초과: {}", username);
+                    return verificationStore.remove(username)
+                        .then(Mono.<String>error(new RuntimeException("인증 시도 횟수를 초과했습니다. 인증번호를 다시 요청해주세요")));
+                }
+                return Mono.<String>error(new RuntimeException("인증번호가 일치하지 않습니다"));
+            });
+    }
+
     /**
      * JWT 토큰 검증
      */
     public Mono<Boolean> validateToken(String token) {
-        return Mono.just(jwtUtil.validateToken(token));
+        return Mono.deferContextual(context ->
+            Mono.just(parseActiveClaims(token, RequestTimings.from(context)) != null));
     }
-    
+
     /**
-     * 6자리 랜덤 인증번호 생성
+     * 로그아웃 - 현재 토큰 폐기
      */
-    private String generateVerificationCode() {
-        SecureRandom random = new SecureRandom();
-        StringBuilder code = new StringBuilder();
-        for (int i = 0; i < CODE_LENGTH; i++) {
-            code.append(random.nextInt(10));
-        }
-        return code.toString();
+    public Mono<Void> logout(String token) {
+        return Mono.deferContextual(context -> {
+            Claims claims = parseActiveClaims(token, RequestTimings.from(context));
+            if (claims == null) {
+                return Mono.error(new RuntimeException("유효하지 않은 토큰입니다"));
+            }
+            if (claims.getId() == null) {
+                // jti가 없는 이전 버전 토큰은 사용자 단위로 폐기
+                return tokenRevocationService.revokeAllForUser(claims.getSubject());
+            }
+            return tokenRevocationService.revoke(claims.getId(), claims.getSubject(), claims.getExpiration());
+        });
     }
 
     /**
-     * 패스코드를 BCrypt로 해시화
-     * (데이터베이스 저장 시 사용)
+     * 특정 사용자의 토큰 전체 폐기 (ADMIN 권한 필요)
      */
-    public String encodePasscode(String rawPasscode) {
-        return passwordEncoder.encode(rawPasscode);
+    public Mono<Void> revokeAllTokens(String adminToken, String username) {
+        return Mono.deferContextual(context -> {
+            Claims claims = parseActiveClaims(adminToken, RequestTimings.from(context));
+            if (claims == null) {
+                return Mono.error(new RuntimeException("유효하지 않은 토큰입니다"));
+            }
+            if (!ADMIN_ROLE.equalsIgnoreCase(claims.get("role", String.class))) {
+                return Mono.error(new ResponseStatusException(HttpStatus.FORBIDDEN, "권한이 없습니다"));
+            }
+            return tokenRevocationService.revokeAllForUser(username);
+        });
     }
-    
+
     /**
-     * 인증번호 데이터 내부 클래스
+     * parseActiveClaims + 측정 요청이면 검증 시간 기록 (Server-Timing)
      */
-    private static class VerificationData {
-        private final String code;
-        private final LocalDateTime createdAt;
-        
-        public VerificationData(String code, LocalDateTime createdAt) {
-            this.code = code;
-            this.createdAt = createdAt;
+    private Claims parseActiveClaims(String token, RequestTimings timings) {
+        if (timings == null) {
+            return parseActiveClaims(token);
         }
-        
-        public String getCode() {
-            return code;
+        long start = System.nanoTime();
+        try {
+            return parseActiveClaims(token);
+        } finally {
+            timings.recordJwt(System.nanoTime() - start);
         }
-        
-        public LocalDateTime getCreatedAt() {
-            return createdAt;
+    }
+
+    /**
+     * 서명/만료/폐기 여부를 모두 확인한 Claims 반환
+     * @return 유효하지 않으면 null
+     */
+    private Claims parseActiveClaims(String token) {
+        Claims claims = jwtUtil.parseValidClaims(token);
+        if (claims == null
+                || tokenRevocationService.isRevoked(claims.getId(), claims.getSubject(), claims.getIssuedAt())) {
+            return null;
         }
+        return claims;
+    }
+    
+    /**
+     * 패스코드를 BCrypt로 해시화
+     * (데이터베이스 저장 시 사용)
+     */
+    public String encodePasscode(String rawPasscode) {
+        return passcodeHasher.encodeBlocking(rawPasscode);
     }
 }
@@ -0,0 +1,79 @@
+package org.peace.blog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.repository.CommentRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 댓글 수 버퍼
+ * - 댓글 저장마다 댓글 수를 UPDATE 하지 않고 메모리에 누적한 뒤 주기적으로 한 번의 upsert로 반영
+ * - 댓글이 몰린 게시글도 댓글 수 행은 노드당 주기마다 1번만 갱신됨
+ * - 반영 실패 시 누적값을 되돌려 다음 주기에 다시 시도, 종료 시 남은 값을 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountBuffer {
+
+    private final CommentRepository commentRepository;
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 저장된 댓글 수 기록
+     */
+    public void add(Long postId, long count) {
+        pending.merge(postId, count, Long::sum);
+    }
+
+    /**
+     * 이 노드에서 아직 DB에 반영되지 않은 댓글 수
+     */
+    public long pending(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 누적된 댓글 수를 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${comments.count-flush-interval-ms:1000}")
+    public Mono<Void> flush() {
+        if (pending.isEmpty()) {
+            return Mono.empty();
+        }
+        List<Long> postIds = new ArrayList<>(pending.size());
+        List<Long> deltas = new ArrayList<>(pending.size());
+        for (Long postId : List.copyOf(pending.keySet())) {
+            Long delta = pending.remove(postId);
+            if (delta != null) {
+                postIds.add(postId);
+                deltas.add(delta);
+            }
+        }
+        return commentRepository.incrementCommentCounts(postIds.toArray(Long[]::new), deltas.toArray(Long[]::new))
+            .doOnNext(updated -> log.debug("댓글 수 반영: {}건", updated))
+            .onErrorResume(e -> {
+                log.warn("댓글 수 반영 실패, 다음 주기에 재시도: {}건", postIds.size(), e);
+                for (int i = 0; i < postIds.size(); i++) {
+                    pending.merge(postIds.get(i), deltas.get(i), Long::sum);
+                }
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush().block(Duration.ofSeconds(5));
+    }
+}
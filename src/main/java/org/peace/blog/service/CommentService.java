@@ -0,0 +1,88 @@
+package org.peace.blog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.CommentProperties;
+import org.peace.blog.entity.Comment;
+import org.peace.blog.model.CommentPage;
+import org.peace.blog.repository.CommentRepository;
+import org.peace.blog.util.KeysetCursor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * CommentService
+ * 댓글 작성/조회
+ * - 작성은 CommentWriteBatcher로 모아서 저장 (댓글 허용 여부도 저장 SQL에서 확인)
+ * - 조회는 (작성일시, id) 커서 기반 페이지네이션
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final CommentWriteBatcher writeBatcher;
+    private final CommentCountBuffer countBuffer;
+    private final DatabaseBulkheads bulkheads;
+    private final CommentProperties properties;
+
+    /**
+     * 댓글 작성
+     */
+    public Mono<Comment> addComment(Long postId, String username, String content) {
+        Comment comment = Comment.builder()
+            .postId(postId)
+            .username(username)
+            .content(content)
+            .build();
+        return writeBatcher.submit(comment)
+            .doOnSuccess(c -> log.debug("댓글 작성 완료: postId={}, id={}", postId, c.getId()));
+    }
+
+    /**
+     * 댓글 목록 조회
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기 (null이면 기본값, 최대 comments.max-page-size)
+     */
+    public Mono<CommentPage> getComments(Long postId, String cursor, Integer limit) {
+        int size = limit == null ? properties.getPageSize() : Math.max(1, Math.min(limit, properties.getMaxPageSize()));
+        KeysetCursor.Position after;
+        try {
+            after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "커서 형식이 올바르지 않습니다"));
+        }
+
+        // 한 건 더 읽어서 다음 페이지 여부 확인
+        Flux<Comment> page = after == null
+            ? commentRepository.findFirstPage(postId, size + 1)
+            : commentRepository.findPageAfter(postId, after.createdAt(), after.id(), size + 1);
+        Mono<Long> count = commentRepository.findCommentCount(postId)
+            .defaultIfEmpty(0L)
+            .map(stored -> stored + countBuffer.pending(postId));
+
+        return Mono.zip(bulkheads.read(page.collectList()), bulkheads.read(count))
+            .map(result -> toPage(result.getT1(), size, result.getT2()));
+    }
+
+    private static CommentPage toPage(List<Comment> comments, int size, long count) {
+        boolean hasNext = comments.size() > size;
+        List<Comment> content = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+        return CommentPage.builder()
+            .comments(content)
+            .nextCursor(nextCursor)
+            .commentCount(count)
+            .build();
+    }
+}
@@ -0,0 +1,183 @@
+package org.peace.blog.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.CommentProperties;
+import org.peace.blog.entity.Comment;
+import org.peace.blog.exception.BulkheadFullException;
+import org.springframework.http.HttpStatus;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 댓글 일괄 저장
+ * - 몇 ms(comments.batch-window) 동안 들어온 댓글을 모아 INSERT 1번으로 저장
+ * - 같은 SQL에서 posts와 조인하여 comment_enabled를 확인 (별도 조회 왕복 없음, 허용되지 않은 건은 저장되지 않음)
+ * - 일괄 저장 1건당 게시글 행 FK 잠금(KEY SHARE)도 1번이므로 댓글이 몰려도 게시글 행에서 줄 서지 않음
+ * - 댓글 수는 CommentCountBuffer로 넘겨 주기적으로 반영
+ * - 대기 중인 댓글이 comments.max-pending을 넘으면 503
+ * - 일괄 저장이 DB 장애가 아닌 이유(일부 행의 값 등)로 실패하면 1건씩 다시 저장하여 문제 댓글만 실패 처리
+ */
+@Slf4j
+@Component
+public class CommentWriteBatcher {
+
+    // id는 미리 받아 두고 결과를 요청 순서(ord)로 돌려줌 (저장되지 않은 건은 inserted = false)
+    private static final String INSERT_BATCH_SQL = """
+        WITH v AS (
+            SELECT nextval('comments_id_seq') AS id, v.post_id, v.username, v.content, v.ord
+            FROM unnest(CAST(:postIds AS BIGINT[]), CAST(:usernames AS VARCHAR[]), CAST(:contents AS TEXT[]))
+                WITH ORDINALITY AS v(post_id, username, content, ord)
+        ), ins AS (
+            INSERT INTO comments (id, post_id, username, content, created_at)
+            SELECT v.id, v.post_id, v.username, v.content, now()
+            FROM v JOIN posts p ON p.id = v.post_id
+            WHERE p.comment_enabled IS NOT FALSE
+            RETURNING id, created_at
+        )
+        SELECT v.ord, v.id, ins.created_at, ins.id IS NOT NULL AS inserted,
+               EXISTS (SELECT 1 FROM posts p WHERE p.id = v.post_id) AS post_exists
+        FROM v LEFT JOIN ins ON ins.id = v.id
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final DatabaseBulkheads bulkheads;
+    private final CommentCountBuffer countBuffer;
+    private final CommentProperties properties;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Sinks.Empty<Void> drained = Sinks.empty();
+    private volatile FluxSink<PendingComment> queue;
+    private volatile boolean stopped;
+
+    public CommentWriteBatcher(DatabaseClient databaseClient, DatabaseBulkheads bulkheads,
+                               CommentCountBuffer countBuffer, CommentProperties properties) {
+        this.databaseClient = databaseClient;
+        this.bulkheads = bulkheads;
+        this.countBuffer = countBuffer;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        Flux.<PendingComment>create(sink -> queue = sink)
+            .bufferTimeout(properties.getMaxBatchSize(), properties.getBatchWindow(), true)
+            .flatMap(this::insertBatch, properties.getMaxConcurrentBatches())
+            .doFinally(signal -> drained.tryEmitEmpty())
+            .subscribe(null, error -> log.error("댓글 일괄 저장 중단", error));
+    }
+
+    /**
+     * 종료 시 모아 둔 댓글까지 저장
+     */
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        queue.complete();
+        drained.asMono()
+            .timeout(Duration.ofSeconds(5), Mono.empty())
+            .block();
+    }
+
+    /**
+     * 댓글 저장 요청 (일괄 저장이 끝나면 id와 작성일시가 채워진 댓글 반환)
+     * - 게시글이 없으면 404, 댓글이 허용되지 않으면 403
+     * - 종료 중이면 503 (완료된 대기열에 넣은 댓글은 저장되지도 응답되지도 않음)
+     */
+    public Mono<Comment> submit(Comment comment) {
+        return Mono.defer(() -> {
+            if (stopped || queue.isCancelled()) {
+                return Mono.error(new BulkheadFullException("comments"));
+            }
+            if (pending.incrementAndGet() > properties.getMaxPending()) {
+                pending.decrementAndGet();
+                return Mono.error(new BulkheadFullException("comments"));
+            }
+            Sinks.One<Comment> result = Sinks.one();
+            queue.next(new PendingComment(comment, result));
+            return result.asMono();
+        });
+    }
+
+    private Mono<Void> insertBatch(List<PendingComment> batch) {
+        return write(batch)
+            .doFinally(signal -> pending.addAndGet(-batch.size()));
+    }
+
+    private Mono<Void> write(List<PendingComment> batch) {
+        Long[] postIds = new Long[batch.size()];
+        String[] usernames = new String[batch.size()];
+        String[] contents = new String[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Comment comment = batch.get(i).comment();
+            postIds[i] = comment.getPostId();
+            usernames[i] = comment.getUsername();
+            contents[i] = comment.getContent();
+        }
+        return bulkheads.write(databaseClient.sql(INSERT_BATCH_SQL)
+                .bind("postIds", postIds)
+                .bind("usernames", usernames)
+                .bind("contents", contents)
+                .map((row, metadata) -> new BatchRow(
+                    row.get("ord", Long.class),
+                    row.get("id", Long.class),
+                    row.get("created_at", LocalDateTime.class),
+                    Boolean.TRUE.equals(row.get("inserted", Boolean.class)),
+                    Boolean.TRUE.equals(row.get("post_exists", Boolean.class))))
+                .all()
+                .collectList())
+            .doOnNext(rows -> complete(batch, rows))
+            .then()
+            .onErrorResume(error -> {
+                if (batch.size() > 1 && !DatabaseBulkheads.isUnavailable(error)) {
+                    log.warn("댓글 일괄 저장 실패, 1건씩 다시 저장: {}건", batch.size(), error);
+                    return Flux.fromIterable(batch)
+                        .concatMap(comment -> write(List.of(comment)))
+                        .then();
+                }
+                log.warn("댓글 저장 실패: {}건", batch.size(), error);
+                batch.forEach(comment -> comment.result().tryEmitError(error));
+                return Mono.empty();
+            });
+    }
+
+    private void complete(List<PendingComment> batch, List<BatchRow> rows) {
+        for (BatchRow row : rows) {
+            PendingComment pendingComment = batch.get((int) (row.ord() - 1));
+            Comment comment = pendingComment.comment();
+            if (row.inserted()) {
+                comment.setId(row.id());
+                comment.setCreatedAt(row.createdAt());
+                countBuffer.add(comment.getPostId(), 1);
+                pendingComment.result().tryEmitValue(comment);
+            } else if (row.postExists()) {
+                pendingComment.result().tryEmitError(
+                    new ResponseStatusException(HttpStatus.FORBIDDEN, "댓글이 허용되지 않은 게시글입니다"));
+            } else {
+                pendingComment.result().tryEmitError(
+                    new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다"));
+            }
+        }
+        // 결과 행이 빠진 요청이 남지 않도록 (이미 완료된 건은 무시됨)
+        for (PendingComment pendingComment : batch) {
+            pendingComment.result().tryEmitError(new IllegalStateException("댓글 저장 결과가 없습니다"));
+        }
+    }
+
+    private record PendingComment(Comment comment, Sinks.One<Comment> result) {
+    }
+
+    private record BatchRow(long ord, long id, LocalDateTime createdAt, boolean inserted, boolean postExists) {
+    }
+}
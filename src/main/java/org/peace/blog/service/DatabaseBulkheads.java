@@ -0,0 +1,145 @@
+package org.peace.blog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.DatabaseBulkheadProperties;
+import org.peace.blog.exception.BulkheadFullException;
+import org.peace.blog.util.AimdLimiter;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * DB 호출 bulkhead (PostRepository / UserRepository)
+ * - 조회/쓰기/인증별로 AIMD 동시 실행 한도를 두고, 관찰한 쿼리 지연으로 한도를 조정
+ * - 한도를 넘으면 커넥션 풀 대기열에 쌓지 않고 즉시 503 + Retry-After
+ * - 한도는 DB 부하/장애로 인한 실패(연결 실패, 일시적 오류, 시간 초과)에만 줄이고, 제약 조건 위반 등은 무시
+ * - 메트릭: db.bulkhead.limit / db.bulkhead.inflight (gauge), db.bulkhead.rejected (counter), 태그 bulkhead
+ */
+@Slf4j
+@Component
+public class DatabaseBulkheads {
+
+    private final boolean enabled;
+    private final Bulkhead read;
+    private final Bulkhead write;
+    private final Bulkhead auth;
+
+    public DatabaseBulkheads(DatabaseBulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.read = new Bulkhead("read", properties, properties.getRead(), meterRegistry);
+        this.write = new Bulkhead("write", properties, properties.getWrite(), meterRegistry);
+        this.auth = new Bulkhead("auth", properties, properties.getAuth(), meterRegistry);
+    }
+
+    public <T> Mono<T> read(Mono<T> query) {
+        return enabled ? read.run(query) : query;
+    }
+
+    public <T> Flux<T> read(Flux<T> query) {
+        return enabled ? read.run(query) : query;
+    }
+
+    public <T> Mono<T> write(Mono<T> query) {
+        return enabled ? write.run(query) : query;
+    }
+
+    public <T> Mono<T> auth(Mono<T> query) {
+        return enabled ? auth.run(query) : query;
+    }
+
+    /**
+     * DB를 쓸 수 없어 실패했는지 (한도 초과, 연결/일시적 오류, 시간 초과)
+     * - bulkhead 한도를 줄일지 판단하는 데 사용
+     * - 일괄 쓰기가 실패했을 때 행을 나누어 다시 시도할지 판단하는 데 사용 (행과 무관한 실패는 나눠도 소용없음)
+     */
+    public static boolean isUnavailable(Throwable error) {
+        return error instanceof BulkheadFullException
+            || error instanceof TransientDataAccessException
+            || error instanceof DataAccessResourceFailureException
+            || error instanceof TimeoutException;
+    }
+
+    private static final class Bulkhead {
+
+        private final String name;
+        private final AimdLimiter limiter;
+        private final Counter rejected;
+
+        Bulkhead(String name, DatabaseBulkheadProperties properties, DatabaseBulkheadProperties.Limit limit,
+                 MeterRegistry meterRegistry) {
+            this.name = name;
+            this.limiter = new AimdLimiter(limit.getInitial(), limit.getMin(), limit.getMax(),
+                properties.getBackoffRatio(), properties.getLatencyThreshold().toNanos());
+            Gauge.builder("db.bulkhead.limit", limiter, AimdLimiter::getLimit)
+                .tag("bulkhead", name)
+                .description("DB bulkhead 현재 동시 실행 한도")
+                .register(meterRegistry);
+            Gauge.builder("db.bulkhead.inflight", limiter, AimdLimiter::getInFlight)
+                .tag("bulkhead", name)
+                .description("DB bulkhead 실행 중인 호출 수")
+                .register(meterRegistry);
+            this.rejected = Counter.builder("db.bulkhead.rejected")
+                .tag("bulkhead", name)
+                .description("한도 초과로 거절된 DB 호출 수")
+                .register(meterRegistry);
+        }
+
+        <T> Mono<T> run(Mono<T> query) {
+            return Mono.defer(() -> {
+                if (!limiter.tryAcquire()) {
+                    return Mono.error(reject());
+                }
+                long start = System.nanoTime();
+                AtomicReference<Throwable> failure = new AtomicReference<>();
+                return query.doOnError(failure::set)
+                    .doFinally(signal -> release(signal, failure.get(), start));
+            });
+        }
+
+        <T> Flux<T> run(Flux<T> query) {
+            return Flux.defer(() -> {
+                if (!limiter.tryAcquire()) {
+                    return Flux.error(reject());
+                }
+                long start = System.nanoTime();
+                AtomicReference<Throwable> failure = new AtomicReference<>();
+                return query.doOnError(failure::set)
+                    .doFinally(signal -> release(signal, failure.get(), start));
+            });
+        }
+
+        /**
+         * 실행 결과를 한도에 반영
+         * - DB 부하/장애를 뜻하는 실패(isUnavailable)만 한도를 줄임
+         * - 제약 조건 위반 등 요청 때문에 난 실패는 한도 유지 (클라이언트가 반복해도 한도가 내려가지 않도록)
+         */
+        private void release(SignalType signal, Throwable error, long start) {
+            switch (signal) {
+                case ON_COMPLETE -> limiter.onSuccess(System.nanoTime() - start);
+                case ON_ERROR -> {
+                    if (isUnavailable(error)) {
+                        limiter.onDropped();
+                    } else {
+                        limiter.onIgnore();
+                    }
+                }
+                default -> limiter.onIgnore();
+            }
+        }
+
+        private BulkheadFullException reject() {
+            rejected.increment();
+            log.debug("DB bulkhead 한도 초과: bulkhead={}, limit={}", name, limiter.getLimit());
+            return new BulkheadFullException(name);
+        }
+    }
+}
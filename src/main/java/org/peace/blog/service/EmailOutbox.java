@@ -0,0 +1,327 @@
+package org.peace.blog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.EmailOutboxProperties;
+import org.peace.blog.entity.EmailMessage;
+import org.peace.blog.repository.EmailOutboxRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이메일 발송 대기열 (Outbox)
+ * - 요청 스레드는 대기열에 넣고 즉시 반환하여 SMTP 지연이 로그인 응답에 포함되지 않음
+ * - 워커마다 SMTP Transport 연결을 유지/재사용하고, 실패 시 지수 백오프로 재시도
+ * - email.outbox.durable=true면 email_outbox 테이블에 저장하여 재시작 후에도 발송
+ *   (메시지는 SENDING + locked_at으로 점유하고, 미발송/오래된 SENDING 메시지는 SKIP LOCKED로 나눠 가져가므로 노드 간 중복 발송 없음)
+ * - 발송 완료 시 행을 삭제하고, 최종 실패 시 본문(인증번호)을 지움
+ */
+@Slf4j
+@Component
+public class EmailOutbox {
+
+    private static final String STATUS_SENDING = "SENDING";
+
+    private final JavaMailSenderImpl mailSender;
+    private final EmailOutboxProperties properties;
+    private final EmailOutboxRepository outboxRepository;
+
+    // 재시도 대기 시간이 지난 메시지만 꺼내지는 대기열
+    private final DelayQueue<OutboxEntry> queue = new DelayQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicBoolean claiming = new AtomicBoolean();
+    private volatile boolean running;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer deliveredTimer;
+    private final Timer deliveryFailedTimer;
+
+    public EmailOutbox(JavaMailSenderImpl mailSender,
+                       EmailOutboxProperties properties,
+                       EmailOutboxRepository outboxRepository,
+                       MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.outboxRepository = outboxRepository;
+
+        this.sentCounter = meterRegistry.counter("email.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("email.outbox.retried");
+        this.failedCounter = meterRegistry.counter("email.outbox.failed");
+        this.deliveredTimer = deliveryTimer(meterRegistry, "success");
+        this.deliveryFailedTimer = deliveryTimer(meterRegistry, "failure");
+        Gauge.builder("email.outbox.queue", queued, AtomicInteger::get)
+            .description("발송 대기 중인 메시지 수")
+            .register(meterRegistry);
+    }
+
+    private static Timer deliveryTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("email.outbox.delivery")
+            .description("SMTP 발송 소요 시간 (연결 포함)")
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 워커 시작 (durable 모드면 미발송 메시지 복구)
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            Thread worker = new Thread(this::runWorker, "email-outbox-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+
+        recover();
+    }
+
+    /**
+     * 미발송 메시지 가져오기 (durable 모드)
+     * - 시작 시와 주기적으로 실행하여, 다른 노드가 발송 중 종료되어 남은 메시지도 이어서 발송
+     * - 대기열의 남은 자리만큼만 가져옴
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.recover-interval-ms:30000}")
+    public void recover() {
+        int free = properties.getQueueCapacity() - queued.get();
+        if (!properties.isDurable() || !running || free <= 0 || !claiming.compareAndSet(false, true)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.claimPending(now, now.minus(properties.getStuckTimeout()), free)
+            .doOnNext(message -> offer(new OutboxEntry(message, message.getAttempts())))
+            .count()
+            .doFinally(signal -> claiming.set(false))
+            .subscribe(
+                count -> {
+                    if (count > 0) {
+                        log.info("미발송 이메일 복구: {}건", count);
+                    }
+                },
+                error -> log.error("미발송 이메일 복구 실패", error));
+    }
+
+    /**
+     * 메시지를 대기열에 추가 (SMTP 발송을 기다리지 않음)
+     */
+    public Mono<Void> enqueue(String fromEmail, String toEmail, String subject, String body) {
+        EmailMessage message = EmailMessage.builder()
+            .fromEmail(fromEmail)
+            .toEmail(toEmail)
+            .subject(subject)
+            .body(body)
+            .status(STATUS_SENDING)
+            .attempts(0)
+            .lockedAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .build();
+
+        Mono<EmailMessage> stored = properties.isDurable()
+            ? outboxRepository.save(message)
+            : Mono.just(message);
+
+        return Mono.defer(() -> queued.get() >= properties.getQueueCapacity()
+                ? Mono.error(new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE, "이메일 발송 대기열이 가득 찼습니다"))
+                : stored)
+            .doOnNext(saved -> offer(new OutboxEntry(saved, 0)))
+            .then();
+    }
+
+    private void offer(OutboxEntry entry) {
+        queued.incrementAndGet();
+        queue.offer(entry);
+    }
+
+    /**
+     * 워커 루프
+     * - SMTP 연결은 워커마다 하나를 유지하고, 유휴 시간이 지나면 닫음
+     */
+    private void runWorker() {
+        Transport transport = null;
+        long idleTimeoutNanos = properties.getIdleConnectionTimeout().toNanos();
+
+        while (running) {
+            OutboxEntry entry;
+            try {
+                entry = queue.poll(idleTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (entry == null) {
+                transport = closeQuietly(transport);
+                continue;
+            }
+            queued.decrementAndGet();
+
+            long start = System.nanoTime();
+            try {
+                transport = ensureConnected(transport);
+                deliver(transport, entry.message);
+                deliveredTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                onDelivered(entry);
+            } catch (Exception e) {
+                deliveryFailedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                transport = closeQuietly(transport);
+                onFailure(entry, e);
+            }
+        }
+        closeQuietly(transport);
+    }
+
+    private void deliver(Transport transport, EmailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
+        if (StringUtils.hasText(message.getFromEmail())) {
+            helper.setFrom(message.getFromEmail());
+        }
+        helper.setTo(message.getToEmail());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getBody());
+        mimeMessage.saveChanges();
+
+        transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+    }
+
+    private void onDelivered(OutboxEntry entry) {
+        sentCounter.increment();
+        log.info("이메일 발송 완료: {}", entry.message.getToEmail());
+
+        if (properties.isDurable() && entry.message.getId() != null) {
+            outboxRepository.deleteById(entry.message.getId())
+                .subscribe(null, error -> log.warn("발송 완료 메시지 삭제 실패: id={}", entry.message.getId(), error));
+        }
+    }
+
+    private void onFailure(OutboxEntry entry, Exception error) {
+        int attempts = entry.attempts + 1;
+        EmailMessage message = entry.message;
+
+        if (attempts < properties.getMaxAttempts() && running) {
+            retriedCounter.increment();
+            Duration backoff = backoff(attempts);
+            log.warn("이메일 발송 실패, {}ms 후 재시도 ({}/{}): {}",
+                backoff.toMillis(), attempts, properties.getMaxAttempts(), message.getToEmail(), error);
+            offer(new OutboxEntry(message, attempts, backoff));
+            if (isStored(message)) {
+                outboxRepository.markRetrying(message.getId(), attempts, error.getMessage(), LocalDateTime.now())
+                    .subscribe(null, e -> log.warn("이메일 상태 저장 실패: id={}", message.getId(), e));
+            }
+            return;
+        }
+
+        failedCounter.increment();
+        log.error("이메일 발송 최종 실패: {}", message.getToEmail(), error);
+        if (isStored(message)) {
+            outboxRepository.markFailed(message.getId(), attempts, error.getMessage())
+                .subscribe(null, e -> log.warn("이메일 상태 저장 실패: id={}", message.getId(), e));
+        }
+    }
+
+    private boolean isStored(EmailMessage message) {
+        return properties.isDurable() && message.getId() != null;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+
+    private Transport ensureConnected(Transport transport) throws MessagingException {
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+        Transport connected = mailSender.getSession().getTransport(mailSender.getProtocol());
+        String username = StringUtils.hasLength(mailSender.getUsername()) ? mailSender.getUsername() : null;
+        String password = StringUtils.hasLength(mailSender.getPassword()) ? mailSender.getPassword() : null;
+        connected.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        return connected;
+    }
+
+    private Transport closeQuietly(Transport transport) {
+        if (transport != null) {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패", e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 워커 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 현재 대기 중인 메시지 수
+     */
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * 대기열 항목 (재시도 시각까지 지연)
+     */
+    private static class OutboxEntry implements Delayed {
+        private final EmailMessage message;
+        private final int attempts;
+        private final long readyAtNanos;
+
+        OutboxEntry(EmailMessage message, int attempts) {
+            this(message, attempts, Duration.ZERO);
+        }
+
+        OutboxEntry(EmailMessage message, int attempts, Duration delay) {
+            this.message = message;
+            this.attempts = attempts;
+            this.readyAtNanos = System.nanoTime() + delay.toNanos();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
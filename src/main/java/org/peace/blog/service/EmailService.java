@@ -2,50 +2,54 @@ package org.peace.blog.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.VerificationStoreProperties;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
 
 /**
  * 이메일 발송 서비스
+ * - 실제 SMTP 발송은 EmailOutbox 워커가 비동기로 처리
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
     
-    private final JavaMailSender mailSender;
+    private final EmailOutbox emailOutbox;
+    private final VerificationStoreProperties verificationProperties;
     
     @Value("${spring.mail.username}")
     private String fromEmail;
     
     /**
      * 인증번호 이메일 발송 (리액티브)
+     * - 발송 대기열에 넣고 즉시 완료됨
      */
     public Mono<Void> sendVerificationCode(String toEmail, String code) {
-        return Mono.fromRunnable(() -> {
-            try {
-                SimpleMailMessage message = new SimpleMailMessage();
-                message.setFrom(fromEmail);
-                message.setTo(toEmail);
-                message.setSubject("[Peace Blog] 관리자 인증번호");
-                message.setText(
-                    "안녕하세요.\n\n" +
-                    "Peace Blog 관리자 인증번호는 다음과 같습니다:\n\n" +
-                    code + "\n\n" +
-                    "이 인증번호는 5분간 유효합니다.\n\n" +
-                    "Peace Blog 팀"
-                );
-                
-                mailSender.send(message);
-                log.info("인증번호 이메일 발송 완료: {}", toEmail);
-            } catch (Exception e) {
-                log.error("이메일 발송 실패: {}", toEmail, e);
-                throw new RuntimeException("이메일 발송 실패", e);
-            }
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        String text =
+            "안녕하세요.\n\n" +
+            "Peace Blog 관리자 인증번호는 다음과 같습니다:\n\n" +
+            code + "\n\n" +
+            "이 인증번호는 " + formatTtl(verificationProperties.getTtl()) + "간 유효합니다.\n\n" +
+            "Peace Blog 팀";
+
+        return emailOutbox.enqueue(fromEmail, toEmail, "[Peace Blog] 관리자 인증번호", text)
+            .doOnSuccess(v -> log.debug("인증번호 이메일 대기열 추가: {}", toEmail))
+            .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                e -> new RuntimeException("이메일 발송 실패", e));
+    }
+
+    /**
+     * 유효 시간 표시 (auth.verification.ttl, 분 단위로 나누어떨어지지 않으면 초 단위)
+     */
+    private static String formatTtl(Duration ttl) {
+        if (ttl.toMinutes() > 0 && ttl.toSecondsPart() == 0) {
+            return ttl.toMinutes() + "분";
+        }
+        return ttl.toSeconds() + "초";
     }
 }
@@ -1,69 +1,205 @@
 package org.peace.blog.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ImageStorageProperties;
+import org.peace.blog.config.ImageUploadProperties;
+import org.peace.blog.entity.Image;
+import org.peace.blog.model.ImageSrcSet;
+import org.peace.blog.model.ImageVariant;
+import org.peace.blog.repository.ImageRepository;
+import org.peace.blog.util.Base64StreamDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.MediaType;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.UUID;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Optional;
 
 /**
  * ImageService
- * 이미지 업로드 처리 (Mock 구현)
- * 실제로는 S3에 업로드하지만, 여기서는 Mock URL만 반환
+ * 이미지 업로드 처리
+ * - 내용은 ImageStore를 통해 해시 기준으로 저장 (동일 이미지는 한 번만 저장, 로컬 디스크/S3)
+ * - 메타데이터(해시, 크기, MIME, 가로/세로)는 images 테이블에 저장
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class ImageService {
-    
-    // Mock 이미지 저장 경로
-    private static final String MOCK_IMAGE_BASE_URL = "https://mock-s3-bucket.s3.amazonaws.com/images/";
+
+    // ImageIO가 형식을 확인하지 못한 파일 (클라이언트가 선언한 MIME 타입은 저장하지 않음, HTML/SVG 등 stored XSS 방지)
+    private static final String UNKNOWN_MIME_TYPE = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+    private final ImageStore imageStore;
+    private final ImageRepository imageRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final ImageStorageProperties storageProperties;
+    private final ImageUploadProperties uploadProperties;
+    private final ImageVariantService variantService;
+    private final UploadAdmissionController admissionController;
     
     /**
-     * 이미지 파일 업로드 (Mock)
+     * 이미지 파일 업로드
      * @param filePart 업로드할 파일
      * @return Mono<String> - 업로드된 이미지 URL
      */
     public Mono<String> uploadImage(FilePart filePart) {
-        log.info("Uploading image: {}", filePart.filename());
-        
-        // 실제로는 S3에 업로드하지만, Mock으로 처리
-        return Mono.fromCallable(() -> {
-            // 원본 파일명 가져오기
-            String originalFilename = filePart.filename();
-            
-            // 고유한 파일명 생성 (UUID 사용)
-            String uniqueFilename = UUID.randomUUID().toString() + "_" + originalFilename;
-            
-            // Mock URL 생성
-            String mockUrl = MOCK_IMAGE_BASE_URL + uniqueFilename;
-            
-            log.info("Image uploaded successfully (Mock): {}", mockUrl);
-            
-            return mockUrl;
-        })
-        .doOnError(error -> log.error("Error uploading image", error));
+        // 파일 크기는 기록하면서 검사 (초과 시 413, 임시 파일 삭제)
+        Flux<DataBuffer> content = admissionController.limitSize(
+            filePart.content(), uploadProperties.getMaxFileSize().toBytes());
+        return storeImage(content)
+            .doOnError(error -> log.error("Error uploading image", error));
     }
     
     /**
-     * Base64 이미지 업로드 (선택적)
-     * @param base64Image Base64 인코딩된 이미지
+     * Base64 이미지 업로드
+     * - 요청 본문을 청크 단위로 디코딩하여 바로 저장소에 기록 (전체 문자열/바이트 배열을 만들지 않음)
+     * - 디코딩 크기가 image.upload.max-base64-size를 넘으면 413으로 중단
+     * @param base64Content Base64 인코딩된 이미지 스트림 (data URI 형식 허용)
      * @return Mono<String> - 업로드된 이미지 URL
      */
-    public Mono<String> uploadBase64Image(String base64Image) {
-        log.info("Uploading base64 image");
-        
-        return Mono.fromCallable(() -> {
-            // 고유한 파일명 생성
-            String uniqueFilename = UUID.randomUUID().toString() + ".png";
-            
-            // Mock URL 생성
-            String mockUrl = MOCK_IMAGE_BASE_URL + uniqueFilename;
-            
-            log.info("Base64 image uploaded successfully (Mock): {}", mockUrl);
-            
-            return mockUrl;
-        })
-        .doOnError(error -> log.error("Error uploading base64 image", error));
+    public Mono<String> uploadBase64Image(Flux<DataBuffer> base64Content) {
+        return Mono.defer(() -> {
+                Base64StreamDecoder decoder = new Base64StreamDecoder(
+                    DefaultDataBufferFactory.sharedInstance, uploadProperties.getMaxBase64Size().toBytes());
+                // data URI의 MIME 타입은 사용하지 않음 (저장 시 이미지 헤더로 판별)
+                return storeImage(decoder.decode(base64Content));
+            })
+            .doOnError(error -> log.error("Error uploading base64 image", error));
+    }
+
+    /**
+     * 이미지 메타데이터 조회
+     */
+    public Mono<Image> getImage(String hash) {
+        return imageRepository.findById(hash);
+    }
+
+    /**
+     * 이미지 로컬 파일 경로 조회 (로컬 저장소가 아니면 empty)
+     */
+    public Optional<Path> resolvePath(String hash) {
+        return imageStore.resolve(hash);
+    }
+
+    /**
+     * 이미지 리다이렉트 URL 조회 (S3 등, 로컬 저장소면 empty)
+     */
+    public Optional<URI> resolveRedirectUri(String hash) {
+        return imageStore.redirectUri(hash);
+    }
+
+    /**
+     * 반응형 변형 목록 (srcset) 조회
+     */
+    public Mono<ImageSrcSet> getSrcSet(String hash) {
+        return variantService.getSrcSet(hash);
+    }
+
+    /**
+     * 변형 1개 조회
+     */
+    public Mono<ImageVariant> getVariant(String hash, int width, String format) {
+        return variantService.findVariant(hash, width, format);
+    }
+
+    /**
+     * 변형 로컬 파일 경로 조회 (로컬 저장소가 아니면 empty)
+     */
+    public Optional<Path> resolveVariantPath(String hash, int width, String format) {
+        return imageStore.resolveVariant(hash, width, format);
+    }
+
+    /**
+     * 변형 리다이렉트 URL 조회 (S3 등, 로컬 저장소면 empty)
+     */
+    public Optional<URI> resolveVariantRedirectUri(String hash, int width, String format) {
+        return imageStore.variantRedirectUri(hash, width, format);
+    }
+
+    /**
+     * 내용을 임시 파일에 기록한 뒤 저장소에 저장하고 메타데이터 등록
+     * - 이미 등록된 이미지면 저장 공간을 추가로 쓰지 않고 기존 URL 반환
+     */
+    private Mono<String> storeImage(Flux<DataBuffer> content) {
+        return imageStore.stage(content)
+            .flatMap(staged -> imageRepository.existsById(staged.hash())
+                .flatMap(exists -> exists
+                    ? Mono.just(staged.hash())
+                    : registerImage(staged))
+                // 저장소로 옮겨지지 않은 임시 파일 정리 (중복/실패)
+                .doFinally(signal -> imageStore.discard(staged)))
+            .map(this::toUrl)
+            .doOnNext(url -> log.debug("Image uploaded successfully: {}", url));
+    }
+
+    private Mono<String> registerImage(ImageStore.StagedObject staged) {
+        return Mono.fromCallable(() -> readMetadata(staged))
+            .subscribeOn(Schedulers.boundedElastic())
+            // 메타데이터는 저장소에 저장된 뒤에 등록 (조회 시 파일이 없는 상황 방지)
+            .flatMap(image -> imageStore.commit(staged, image.getMimeType()).thenReturn(image))
+            .flatMap(entityTemplate::insert)
+            // 새로 등록된 이미지만 리사이즈 변형 생성 작업 등록 (업로드 응답은 기다리지 않음)
+            .flatMap(image -> variantService.enqueue(image.getHash())
+                .onErrorResume(e -> {
+                    log.warn("이미지 변형 작업 등록 실패: {}", image.getHash(), e);
+                    return Mono.empty();
+                }))
+            // 같은 이미지가 동시에 등록된 경우
+            .onErrorResume(DataIntegrityViolationException.class, e -> Mono.empty())
+            .thenReturn(staged.hash());
+    }
+
+    /**
+     * 이미지 헤더만 읽어 MIME 타입과 가로/세로 크기 확인 (전체 디코딩 없음)
+     * - MIME 타입은 ImageIO reader가 판별한 값만 저장, 판별하지 못하면 application/octet-stream
+     */
+    private Image readMetadata(ImageStore.StagedObject staged) {
+        Image image = Image.builder()
+            .hash(staged.hash())
+            .size(staged.size())
+            .mimeType(UNKNOWN_MIME_TYPE)
+            .createdAt(LocalDateTime.now())
+            .build();
+
+        Path path = staged.path();
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return image;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                image.setWidth(reader.getWidth(0));
+                image.setHeight(reader.getHeight(0));
+                String[] mimeTypes = reader.getOriginatingProvider().getMIMETypes();
+                if (mimeTypes != null && mimeTypes.length > 0) {
+                    image.setMimeType(mimeTypes[0]);
+                }
+            } finally {
+                reader.dispose();
+            }
+        } catch (Exception e) {
+            log.warn("이미지 메타데이터 읽기 실패: {}", staged.hash(), e);
+        }
+        return image;
+    }
+
+    private String toUrl(String hash) {
+        return storageProperties.getPublicBaseUrl() + "/" + hash;
     }
 }
@@ -0,0 +1,210 @@
+package org.peace.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ImageStorageProperties;
+import org.peace.blog.repository.ObjectStore;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 이미지 저장소
+ * - 업로드 내용을 메모리에 모으지 않고 AsynchronousFileChannel로 임시 파일에 바로 기록
+ * - 기록하면서 SHA-256을 계산하고, 해시 key(objects/ab/cd/{hash})로 ObjectStore에 저장하여 동일 이미지는 한 번만 저장
+ * - 실제 저장 위치(로컬 디스크/S3)는 ObjectStore 구현체가 결정
+ */
+@Slf4j
+@Component
+public class ImageStore {
+
+    private final ObjectStore objectStore;
+    private final Path tempDir;
+
+    public ImageStore(ObjectStore objectStore, ImageStorageProperties properties) throws IOException {
+        this.objectStore = objectStore;
+        Path root = Paths.get(properties.getRoot()).toAbsolutePath().normalize();
+        this.tempDir = Files.createDirectories(root.resolve("tmp"));
+        log.info("Image staging directory: {}", tempDir);
+    }
+
+    /**
+     * 업로드 내용을 임시 파일에 기록
+     * - 메모리 사용량은 업로드 크기와 무관하게 버퍼 몇 개 수준으로 일정
+     * - 저장하지 않을 경우 discard로 임시 파일을 지워야 함
+     *
+     * @param content 업로드 데이터 스트림 (버퍼는 기록 후 해제됨)
+     * @return 임시 저장 결과 (해시, 크기, 임시 파일 경로)
+     */
+    public Mono<StagedObject> stage(Flux<DataBuffer> content) {
+        return Mono.defer(() -> {
+            Path tempFile = newTempFile();
+            MessageDigest digest = sha256();
+            long[] size = new long[1];
+
+            Flux<DataBuffer> hashed = content.doOnNext(buffer -> {
+                size[0] += buffer.readableByteCount();
+                try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                    while (iterator.hasNext()) {
+                        digest.update(iterator.next());
+                    }
+                }
+            });
+
+            return Mono.using(
+                    () -> AsynchronousFileChannel.open(tempFile,
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE),
+                    channel -> DataBufferUtils.write(hashed, channel)
+                        .map(DataBufferUtils::release)
+                        .then(),
+                    this::closeQuietly)
+                .then(Mono.fromSupplier(() ->
+                    new StagedObject(HexFormat.of().formatHex(digest.digest()), size[0], tempFile)))
+                .doOnError(error -> deleteQuietly(tempFile))
+                .doOnCancel(() -> deleteQuietly(tempFile));
+        });
+    }
+
+    /**
+     * 임시 파일을 원본 key로 저장
+     */
+    public Mono<Void> commit(StagedObject staged, String contentType) {
+        return objectStore.put(objectKey(staged.hash()), staged.path(), staged.size(), contentType);
+    }
+
+    /**
+     * 저장하지 않은 임시 파일 삭제
+     */
+    public void discard(StagedObject staged) {
+        deleteQuietly(staged.path());
+    }
+
+    /**
+     * 변형 파일 저장
+     */
+    public Mono<Void> putVariant(String hash, int width, String format, Path source, long size) {
+        return objectStore.put(variantKey(hash, width, format), source, size, "image/" + format);
+    }
+
+    /**
+     * 원본을 로컬 파일로 준비 (S3 등은 임시 파일로 내려받음, 사용 후 release)
+     */
+    public Mono<LocalCopy> fetchOriginal(String hash) {
+        String key = objectKey(hash);
+        Optional<Path> localPath = objectStore.localPath(key);
+        if (localPath.isPresent()) {
+            return Mono.just(new LocalCopy(localPath.get(), false));
+        }
+        return Mono.defer(() -> objectStore.fetch(key, newTempFile()))
+            .map(path -> new LocalCopy(path, true));
+    }
+
+    /**
+     * 원본 로컬 사본 반환 (임시 파일이면 삭제)
+     */
+    public void release(LocalCopy copy) {
+        if (copy.temporary()) {
+            deleteQuietly(copy.path());
+        }
+    }
+
+    /**
+     * 원본 로컬 파일 경로 (로컬 저장소가 아니면 empty)
+     */
+    public Optional<Path> resolve(String hash) {
+        return objectStore.localPath(objectKey(hash));
+    }
+
+    /**
+     * 변형 로컬 파일 경로 (로컬 저장소가 아니면 empty)
+     */
+    public Optional<Path> resolveVariant(String hash, int width, String format) {
+        return objectStore.localPath(variantKey(hash, width, format));
+    }
+
+    /**
+     * 원본 리다이렉트 URL (로컬 저장소면 empty)
+     */
+    public Optional<URI> redirectUri(String hash) {
+        return objectStore.redirectUri(objectKey(hash));
+    }
+
+    /**
+     * 변형 리다이렉트 URL (로컬 저장소면 empty)
+     */
+    public Optional<URI> variantRedirectUri(String hash, int width, String format) {
+        return objectStore.redirectUri(variantKey(hash, width, format));
+    }
+
+    /**
+     * 새 임시 파일 경로 (파일은 만들지 않음)
+     */
+    public Path newTempFile() {
+        return tempDir.resolve(UUID.randomUUID().toString());
+    }
+
+    private static String objectKey(String hash) {
+        return "objects/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    private static String variantKey(String hash, int width, String format) {
+        return "variants/" + hash.substring(0, 2) + "/" + hash + "/" + width + "." + format;
+    }
+
+    private void closeQuietly(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("임시 파일 채널 종료 실패", e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 임시 저장 결과
+     *
+     * @param hash SHA-256 (hex)
+     * @param size 바이트 크기
+     * @param path 임시 파일 경로
+     */
+    public record StagedObject(String hash, long size, Path path) {
+    }
+
+    /**
+     * 원본의 로컬 사본
+     *
+     * @param path 파일 경로
+     * @param temporary 내려받은 임시 파일 여부 (release 시 삭제)
+     */
+    public record LocalCopy(Path path, boolean temporary) {
+    }
+}
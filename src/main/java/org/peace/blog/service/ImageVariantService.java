@@ -0,0 +1,422 @@
+package org.peace.blog.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ImageStorageProperties;
+import org.peace.blog.config.ImageVariantProperties;
+import org.peace.blog.model.ImageSrcSet;
+import org.peace.blog.model.ImageVariant;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 리사이즈 변형 생성 서비스
+ * - 업로드 시 image_variant_jobs 테이블에 작업만 등록하고 즉시 반환 (업로드 지연 없음)
+ * - CPU 코어 수만큼의 워커가 작업을 가져가 320/640/1280 등 가로 크기별 변형을 생성
+ * - 작업 대기열은 DB에 있으므로 재시작 후에도 이어서 처리되고, 여러 노드가 SKIP LOCKED로 나눠 처리
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final String STATUS_PENDING = "PENDING";
+    private static final String STATUS_DONE = "DONE";
+    private static final String STATUS_FAILED = "FAILED";
+
+    private static final String WEBP = "webp";
+
+    private final DatabaseClient databaseClient;
+    private final ImageStore imageStore;
+    private final ImageVariantProperties properties;
+    private final ImageStorageProperties storageProperties;
+
+    // 리사이즈는 CPU 작업이므로 코어 수 크기의 전용 스케줄러에서 실행
+    private final Scheduler workerScheduler;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean claiming = new AtomicBoolean();
+    private final boolean webpAvailable;
+
+    public ImageVariantService(DatabaseClient databaseClient,
+                               ImageStore imageStore,
+                               ImageVariantProperties properties,
+                               ImageStorageProperties storageProperties,
+                               MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.imageStore = imageStore;
+        this.properties = properties;
+        this.storageProperties = storageProperties;
+        this.workerScheduler = Micrometer.timedScheduler(
+            Schedulers.newParallel("image-variant", properties.getWorkers()),
+            meterRegistry, "reactor.scheduler", Tags.of("name", "image-variant"));
+        this.webpAvailable = ImageIO.getImageWritersByFormatName(WEBP).hasNext();
+        log.info("Image variant pipeline: workers={}, widths={}, webp={}",
+            properties.getWorkers(), properties.getWidths(), webpAvailable);
+    }
+
+    /**
+     * 변형 생성 작업 등록
+     */
+    public Mono<Void> enqueue(String hash) {
+        return databaseClient.sql("""
+                INSERT INTO image_variant_jobs (image_hash, status, created_at)
+                VALUES (:hash, 'PENDING', :now)
+                ON CONFLICT (image_hash) DO NOTHING
+                """)
+            .bind("hash", hash)
+            .bind("now", LocalDateTime.now())
+            .then()
+            .doOnSuccess(v -> drain());
+    }
+
+    /**
+     * 생성된 변형 목록을 srcset 형태로 조회
+     */
+    public Mono<ImageSrcSet> getSrcSet(String hash) {
+        return findVariants(hash)
+            .collectList()
+            .map(variants -> {
+                Map<String, String> srcset = variants.stream()
+                    .collect(Collectors.groupingBy(ImageVariant::getFormat, LinkedHashMap::new,
+                        Collectors.mapping(v -> v.getUrl() + " " + v.getWidth() + "w", Collectors.joining(", "))));
+                return ImageSrcSet.builder()
+                    .src(storageProperties.getPublicBaseUrl() + "/" + hash)
+                    .srcset(srcset)
+                    .variants(variants)
+                    .build();
+            });
+    }
+
+    /**
+     * 변형 1개 조회
+     */
+    public Mono<ImageVariant> findVariant(String hash, int width, String format) {
+        return findVariants(hash)
+            .filter(v -> v.getWidth() == width && v.getFormat().equals(format))
+            .next();
+    }
+
+    private Flux<ImageVariant> findVariants(String hash) {
+        return databaseClient.sql("""
+                SELECT width, height, format, size FROM image_variants
+                WHERE image_hash = :hash ORDER BY format, width
+                """)
+            .bind("hash", hash)
+            .map((row, metadata) -> {
+                int width = row.get("width", Integer.class);
+                String format = row.get("format", String.class);
+                return ImageVariant.builder()
+                    .width(width)
+                    .height(row.get("height", Integer.class))
+                    .format(format)
+                    .size(row.get("size", Long.class))
+                    .url(variantUrl(hash, width, format))
+                    .build();
+            })
+            .all();
+    }
+
+    private String variantUrl(String hash, int width, String format) {
+        return storageProperties.getPublicBaseUrl() + "/" + hash + "/variants/" + width + "." + format;
+    }
+
+    /**
+     * 대기 작업 확인 (등록 시 즉시 호출되고, 재시작/다른 노드 작업 대비로 주기적으로도 호출)
+     */
+    @Scheduled(fixedDelayString = "${image.variants.poll-interval-ms:5000}")
+    public void drain() {
+        int free = properties.getWorkers() - inFlight.get();
+        if (free <= 0 || !claiming.compareAndSet(false, true)) {
+            return;
+        }
+
+        claimJobs(free)
+            .doFinally(signal -> claiming.set(false))
+            .subscribe(this::process, error -> log.warn("이미지 변형 작업 조회 실패", error));
+    }
+
+    /**
+     * 대기 작업을 RUNNING으로 표시하며 가져옴
+     * - FOR UPDATE SKIP LOCKED로 여러 노드가 같은 작업을 가져가지 않음
+     * - 오래된 RUNNING 작업(처리 중 종료된 노드)은 다시 가져감
+     * - 오래된 RUNNING 작업이 이미 max-attempts번 시도되었으면 FAILED로 표시
+     *   (워커를 죽이거나 멈추게 하는 작업은 실패를 보고하지 못하므로 여기서 시도 횟수를 제한)
+     */
+    private Flux<VariantJob> claimJobs(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("""
+                WITH exhausted AS (
+                    UPDATE image_variant_jobs SET status = 'FAILED', locked_at = NULL,
+                                                  last_error = '처리 중 중단된 작업의 최대 시도 횟수 초과'
+                    WHERE status = 'RUNNING' AND locked_at < :stuckBefore AND attempts >= :maxAttempts
+                )
+                UPDATE image_variant_jobs SET status = 'RUNNING', locked_at = :now, attempts = attempts + 1
+                WHERE id IN (
+                    SELECT id FROM image_variant_jobs
+                    WHERE status = 'PENDING'
+                       OR (status = 'RUNNING' AND locked_at < :stuckBefore AND attempts < :maxAttempts)
+                    ORDER BY id
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING id, image_hash, attempts
+                """)
+            .bind("now", now)
+            .bind("stuckBefore", now.minus(properties.getStuckTimeout()))
+            .bind("maxAttempts", properties.getMaxAttempts())
+            .bind("limit", limit)
+            .map((row, metadata) -> new VariantJob(
+                row.get("id", Long.class),
+                row.get("image_hash", String.class).trim(),
+                row.get("attempts", Integer.class)))
+            .all();
+    }
+
+    private void process(VariantJob job) {
+        inFlight.incrementAndGet();
+        // 원본이 로컬에 없으면(S3 등) 임시 파일로 내려받아 처리
+        Mono.usingWhen(imageStore.fetchOriginal(job.hash()),
+                original -> Mono.fromCallable(() -> generateVariants(job.hash(), original.path()))
+                    .subscribeOn(workerScheduler)
+                    .flatMap(generated -> storeVariants(job.hash(), generated)),
+                original -> Mono.fromRunnable(() -> imageStore.release(original)))
+            .flatMap(variants -> saveVariants(job.hash(), variants)
+                .then(completeJob(job, STATUS_DONE, null)))
+            .onErrorResume(error -> {
+                log.warn("이미지 변형 생성 실패: hash={}, attempt={}", job.hash(), job.attempts(), error);
+                String status = job.attempts() >= properties.getMaxAttempts() ? STATUS_FAILED : STATUS_PENDING;
+                return completeJob(job, status, error.getMessage());
+            })
+            .doFinally(signal -> {
+                inFlight.decrementAndGet();
+                drain();
+            })
+            .subscribe();
+    }
+
+    /**
+     * 원본을 읽어 가로 크기/포맷별 변형을 임시 파일로 생성 (워커 스레드에서 실행)
+     * - 헤더의 가로x세로가 image.variants.max-source-pixels를 넘으면 디코딩하지 않음 (작은 파일로 거대한 래스터 할당 방지)
+     * - 가장 큰 변형 가로 크기까지만 subsampling하여 디코딩
+     */
+    private List<GeneratedVariant> generateVariants(String hash, Path originalPath) throws IOException {
+        List<GeneratedVariant> variants = new ArrayList<>();
+        SourceImage source = readSource(hash, originalPath);
+        if (source == null) {
+            return variants;
+        }
+        BufferedImage original = source.image();
+
+        boolean hasAlpha = original.getColorModel().hasAlpha();
+        List<String> formats = new ArrayList<>();
+        formats.add(hasAlpha ? "png" : "jpeg");
+        if (webpAvailable) {
+            formats.add(WEBP);
+        }
+
+        for (int width : properties.getWidths()) {
+            if (width >= source.width()) {
+                continue;
+            }
+            int height = Math.max(1, Math.round((float) source.height() * width / source.width()));
+            BufferedImage resized = resize(original, width, height, hasAlpha);
+            for (String format : formats) {
+                Path file = imageStore.newTempFile();
+                try {
+                    long size = write(resized, format, file);
+                    variants.add(new GeneratedVariant(ImageVariant.builder()
+                        .width(width)
+                        .height(height)
+                        .format(format)
+                        .size(size)
+                        .build(), file));
+                } catch (IOException | RuntimeException e) {
+                    deleteQuietly(file);
+                    variants.forEach(v -> deleteQuietly(v.file()));
+                    throw e;
+                }
+            }
+        }
+        log.info("이미지 변형 생성 완료: hash={}, variants={}", hash, variants.size());
+        return variants;
+    }
+
+    /**
+     * 원본 디코딩 (변형을 만들 필요가 없거나 읽을 수 없으면 null)
+     */
+    private SourceImage readSource(String hash, Path originalPath) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(originalPath.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                // ImageIO가 읽을 수 없는 포맷 (SVG 등)
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > properties.getMaxSourcePixels()) {
+                    log.warn("원본 픽셀 수 초과로 변형 생성 건너뜀: hash={}, {}x{}", hash, width, height);
+                    return null;
+                }
+                int targetWidth = properties.getWidths().stream()
+                    .filter(w -> w < width)
+                    .max(Integer::compare)
+                    .orElse(0);
+                if (targetWidth == 0) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / targetWidth);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return new SourceImage(reader.read(0, param), width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage original, int width, int height, boolean hasAlpha) {
+        BufferedImage resized = new BufferedImage(width, height,
+            hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    /**
+     * 임시 파일에 기록 (저장소로 옮겨진 뒤에만 서빙되므로 반쯤 쓰인 파일이 노출되지 않음)
+     */
+    private long write(BufferedImage image, String format, Path temp) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("ImageWriter가 없습니다: " + format);
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed() && !"png".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(properties.getQuality());
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return Files.size(temp);
+    }
+
+    /**
+     * 생성한 변형 임시 파일을 저장소로 저장 (실패 시 남은 임시 파일 삭제)
+     */
+    private Mono<List<ImageVariant>> storeVariants(String hash, List<GeneratedVariant> generated) {
+        return Flux.fromIterable(generated)
+            .concatMap(g -> imageStore.putVariant(hash, g.variant().getWidth(), g.variant().getFormat(),
+                    g.file(), g.variant().getSize())
+                .thenReturn(g.variant()))
+            .collectList()
+            .doOnError(error -> generated.forEach(g -> deleteQuietly(g.file())));
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private Mono<Void> saveVariants(String hash, List<ImageVariant> variants) {
+        return Flux.fromIterable(variants)
+            .concatMap(variant -> databaseClient.sql("""
+                    INSERT INTO image_variants (image_hash, width, format, height, size)
+                    VALUES (:hash, :width, :format, :height, :size)
+                    ON CONFLICT (image_hash, width, format) DO UPDATE
+                    SET height = EXCLUDED.height, size = EXCLUDED.size
+                    """)
+                .bind("hash", hash)
+                .bind("width", variant.getWidth())
+                .bind("format", variant.getFormat())
+                .bind("height", variant.getHeight())
+                .bind("size", variant.getSize())
+                .then())
+            .then();
+    }
+
+    private Mono<Void> completeJob(VariantJob job, String status, String error) {
+        var spec = databaseClient.sql("""
+                UPDATE image_variant_jobs SET status = :status, last_error = :error, locked_at = NULL
+                WHERE id = :id
+                """)
+            .bind("status", status)
+            .bind("id", job.id());
+        spec = error != null ? spec.bind("error", error) : spec.bindNull("error", String.class);
+        return spec.then();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerScheduler.dispose();
+    }
+
+    /**
+     * 변형 생성 작업
+     */
+    private record VariantJob(Long id, String hash, int attempts) {
+    }
+
+    /**
+     * subsampling된 디코딩 결과와 원본 크기
+     */
+    private record SourceImage(BufferedImage image, int width, int height) {
+    }
+
+    /**
+     * 임시 파일로 생성된 변형
+     */
+    private record GeneratedVariant(ImageVariant variant, Path file) {
+    }
+}
@@ -0,0 +1,214 @@
+package org.peace.blog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.StaleReadProperties;
+import org.peace.blog.exception.BulkheadFullException;
+import org.peace.blog.exception.CircuitOpenException;
+import org.peace.blog.util.CircuitBreaker;
+import org.peace.blog.util.RequestTimings;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 공개 게시글 조회의 마지막 정상 응답 (stale-while-revalidate)
+ * - DB 조회가 성공할 때마다 결과를 키(조회 종류 + 파라미터)별로 보관 (LRU, posts.stale.max-entries)
+ * - DB 오류, circuit breaker open, bulkhead 거절 시 보관된 응답을 Warning/Age 헤더와 함께 제공
+ * - 오래된 응답을 제공한 키는 주기적으로 다시 조회하여 DB가 회복되면 갱신
+ * - 메트릭: posts.stale.served (counter), posts.stale.entries / db.circuit.state (gauge, 0=CLOSED 1=OPEN 2=HALF_OPEN)
+ */
+@Slf4j
+@Component
+public class LastKnownGoodCache {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private final StaleReadProperties properties;
+    private final CircuitBreaker breaker;
+    private final Map<List<Object>, Entry> entries;
+    // 오래된 응답을 제공한 키 -> 다시 조회할 쿼리
+    private final Map<List<Object>, Supplier<Mono<?>>> staleKeys = new ConcurrentHashMap<>();
+    private final Counter staleServed;
+
+    public LastKnownGoodCache(StaleReadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.breaker = new CircuitBreaker(properties.getFailureThreshold(), properties.getOpenDuration().toNanos());
+        int maxEntries = properties.getMaxEntries();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        Gauge.builder("posts.stale.entries", entries, Map::size)
+            .description("보관 중인 마지막 정상 응답 수")
+            .register(meterRegistry);
+        Gauge.builder("db.circuit.state", breaker, b -> b.getState().ordinal())
+            .description("DB circuit breaker 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+            .register(meterRegistry);
+        this.staleServed = Counter.builder("posts.stale.served")
+            .description("DB 대신 마지막 정상 응답으로 제공한 조회 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * DB 조회 실행 (합쳐진 조회 1건당 1번)
+     * - circuit breaker가 열려 있으면 실행하지 않고 CircuitOpenException
+     * - 성공하면 결과를 마지막 정상 응답으로 보관 (결과가 없으면 보관된 응답 제거)
+     */
+    public <V> Mono<V> guard(List<Object> key, Mono<V> query) {
+        if (!properties.isEnabled()) {
+            return query;
+        }
+        return Mono.defer(() -> {
+            if (!breaker.tryAcquire(System.nanoTime())) {
+                return Mono.error(new CircuitOpenException());
+            }
+            return query
+                .doOnSuccess(value -> {
+                    breaker.onSuccess();
+                    store(key, value);
+                })
+                .doOnError(error -> {
+                    if (isDatabaseFailure(error)) {
+                        breaker.onFailure(System.nanoTime());
+                    } else {
+                        breaker.onIgnore();
+                    }
+                })
+                .doOnCancel(breaker::onIgnore);
+        });
+    }
+
+    /**
+     * 호출자별 조회
+     * - DB를 쓸 수 없으면 보관된 응답으로 대체 (없거나 max-age를 넘었으면 원래 오류 전달)
+     * - 측정 요청이면 cache-lkg에 보관된 응답 제공(hit) / DB 결과 또는 보관된 응답 없음(miss) 기록
+     * @param query guard를 거치는 조회 (백그라운드 갱신에도 사용)
+     */
+    public <V> Mono<V> serve(List<Object> key, Supplier<Mono<V>> query) {
+        if (!properties.isEnabled()) {
+            return query.get();
+        }
+        return Mono.deferContextual(context -> query.get()
+            .doOnSuccess(value -> recordCache(context, false))
+            .onErrorResume(LastKnownGoodCache::isDegraded, error -> stale(key, query, error)
+                .doOnError(e -> recordCache(context, false))));
+    }
+
+    /**
+     * 게시글이 바뀌면 해당 게시글과 모든 목록 응답 제거 (바뀐 것이 확인된 이전 응답은 제공하지 않음)
+     */
+    public void evictPost(Long postId) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> !"post".equals(key.get(0)) || postId.equals(key.get(1)));
+        }
+    }
+
+    /**
+     * 오래된 응답을 제공한 키를 다시 조회
+     * - 순서대로 실행하므로 circuit breaker 시험 조회가 성공하면 나머지도 이어서 갱신됨
+     */
+    @Scheduled(fixedDelayString = "${posts.stale.refresh-interval-ms:5000}")
+    public Mono<Void> refreshStale() {
+        if (staleKeys.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(List.copyOf(staleKeys.entrySet()))
+            .concatMap(stale -> stale.getValue().get()
+                .doOnSuccess(value -> staleKeys.remove(stale.getKey()))
+                .onErrorResume(error -> Mono.empty()))
+            .then()
+            .doOnSuccess(v -> {
+                if (staleKeys.isEmpty()) {
+                    log.info("DB 회복: 오래된 응답 갱신 완료");
+                }
+            });
+    }
+
+    private <V> Mono<V> stale(List<Object> key, Supplier<Mono<V>> query, Throwable error) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Mono.error(error);
+        }
+        long ageMillis = System.currentTimeMillis() - entry.storedAt();
+        if (ageMillis > properties.getMaxAge().toMillis()) {
+            return Mono.error(error);
+        }
+        staleKeys.putIfAbsent(key, query::get);
+        staleServed.increment();
+        log.debug("오래된 응답 제공: key={}, age={}ms, cause={}", key, ageMillis, error.toString());
+
+        @SuppressWarnings("unchecked")
+        V value = (V) entry.value();
+        return Mono.deferContextual(context -> {
+            markStale(context, ageMillis);
+            return Mono.just(value);
+        });
+    }
+
+    /**
+     * 응답에 Warning/Age 헤더 추가 (요청 exchange는 ServerWebExchangeContextFilter가 context에 넣음)
+     */
+    private static void markStale(ContextView context, long ageMillis) {
+        ServerWebExchangeContextFilter.getExchange(context).ifPresent(exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            if (!response.isCommitted()) {
+                response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+                response.getHeaders().set(HttpHeaders.AGE, Long.toString(ageMillis / 1000));
+            }
+        });
+        recordCache(context, true);
+    }
+
+    private static void recordCache(ContextView context, boolean hit) {
+        RequestTimings timings = RequestTimings.from(context);
+        if (timings != null) {
+            timings.recordCache("lkg", hit);
+        }
+    }
+
+    private void store(List<Object> key, Object value) {
+        if (value == null
+                || value instanceof List<?> list && list.size() > properties.getMaxListSize()) {
+            entries.remove(key);
+            return;
+        }
+        entries.put(key, new Entry(value, System.currentTimeMillis()));
+    }
+
+    /**
+     * 조회 실패 중 보관된 응답으로 대체할 대상 (DB 오류 + 과부하/차단 거절)
+     */
+    private static boolean isDegraded(Throwable error) {
+        return isDatabaseFailure(error)
+            || error instanceof BulkheadFullException
+            || error instanceof CircuitOpenException;
+    }
+
+    /**
+     * circuit breaker 실패로 볼 오류 (R2DBC/연결/타임아웃 등, 애플리케이션이 만든 상태 오류는 제외)
+     */
+    private static boolean isDatabaseFailure(Throwable error) {
+        return !(error instanceof ResponseStatusException);
+    }
+
+    private record Entry(Object value, long storedAt) {
+    }
+}
@@ -0,0 +1,117 @@
+package org.peace.blog.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.PasscodeHashProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 패스코드 해시 처리기
+ * - BCrypt 연산은 수십 ms가 걸리므로 Netty 이벤트 루프가 아닌 전용 스케줄러에서 실행
+ * - 동시 실행 수와 대기열 크기를 제한하고, 포화 시 429로 즉시 거절
+ */
+@Slf4j
+@Component
+public class PasscodeHasher {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final Scheduler scheduler;
+    private final int maxPending;
+
+    // 실행 중 + 대기 중인 해시 작업 수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Timer matchTimer;
+    private final Timer encodeTimer;
+
+    public PasscodeHasher(PasscodeHashProperties properties, MeterRegistry meterRegistry) {
+        this.passwordEncoder = new BCryptPasswordEncoder(properties.getStrength());
+        this.maxPending = properties.getThreads() + properties.getQueueCapacity();
+        // 작업 대기/실행 시간은 reactor.scheduler.* 메트릭으로 노출
+        this.scheduler = Micrometer.timedScheduler(
+            Schedulers.newBoundedElastic(properties.getThreads(), properties.getQueueCapacity(), "passcode-hash"),
+            meterRegistry, "reactor.scheduler", Tags.of("name", "passcode-hash"));
+
+        this.matchTimer = Timer.builder("auth.passcode.hash")
+            .tag("operation", "match")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.passcode.hash")
+            .tag("operation", "encode")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("auth.passcode.hash.pending", pending, AtomicInteger::get)
+            .description("실행 중이거나 대기 중인 패스코드 해시 작업 수")
+            .register(meterRegistry);
+
+        log.info("Passcode hasher: strength={}, threads={}, queueCapacity={}",
+            properties.getStrength(), properties.getThreads(), properties.getQueueCapacity());
+    }
+
+    /**
+     * 패스코드 일치 여부 확인 (전용 스케줄러에서 실행)
+     */
+    public Mono<Boolean> matches(String rawPasscode, String encodedPasscode) {
+        return submit(matchTimer, () -> rawPasscode != null && encodedPasscode != null
+            && passwordEncoder.matches(rawPasscode, encodedPasscode));
+    }
+
+    /**
+     * 패스코드 해시 생성 (전용 스케줄러에서 실행)
+     */
+    public Mono<String> encode(String rawPasscode) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPasscode));
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정보다 낮은지 확인
+     */
+    public boolean needsRehash(String encodedPasscode) {
+        return passwordEncoder.upgradeEncoding(encodedPasscode);
+    }
+
+    /**
+     * 현재 스레드에서 바로 해시 생성 (관리 도구/초기 데이터용)
+     */
+    public String encodeBlocking(String rawPasscode) {
+        return passwordEncoder.encode(rawPasscode);
+    }
+
+    private <T> Mono<T> submit(Timer timer, Callable<T> task) {
+        return Mono.defer(() -> {
+            if (pending.incrementAndGet() > maxPending) {
+                pending.decrementAndGet();
+                return Mono.error(saturated());
+            }
+            return Mono.fromCallable(() -> timer.recordCallable(task))
+                .subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> saturated())
+                .doFinally(signal -> pending.decrementAndGet());
+        });
+    }
+
+    private ResponseStatusException saturated() {
+        return new ResponseStatusException(
+            HttpStatus.TOO_MANY_REQUESTS, "요청이 많습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,174 @@
+package org.peace.blog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.PostChangeFeedProperties;
+import org.peace.blog.entity.Post;
+import org.peace.blog.model.PostChangeEvent;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글 변경 알림
+ * - 변경은 PostgreSQL NOTIFY로 발송하고, 모든 노드(자신 포함)는 LISTEN 전용 연결로 받아 구독자에게 전달
+ * - LISTEN 연결은 커넥션 풀을 거치지 않는 별도 연결 (풀 크기를 차지하지 않음), 끊기면 재연결 후 RESYNC 이벤트 발송
+ * - 구독자 전달은 multicast sink (느린 구독자는 자기 버퍼에서만 오래된 이벤트를 버림)
+ * - NOTIFY는 변경 저장 후 별도로 발송하므로 발송 실패 시 이 노드에만 전달됨 (최대 1회 전달)
+ * - 메트릭: posts.changes.subscribers (gauge)
+ */
+@Slf4j
+@Service
+public class PostChangeFeed {
+
+    private static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+    private final PostChangeFeedProperties properties;
+    private final LastKnownGoodCache lastKnownGood;
+
+    private final Sinks.Many<PostChangeEvent> sink = Sinks.many().multicast().directBestEffort();
+    private volatile Disposable listener;
+
+    public PostChangeFeed(ConnectionFactory connectionFactory, DatabaseClient databaseClient,
+                          ObjectMapper objectMapper, PostChangeFeedProperties properties,
+                          LastKnownGoodCache lastKnownGood, MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.lastKnownGood = lastKnownGood;
+        Gauge.builder("posts.changes.subscribers", sink, Sinks.Many::currentSubscriberCount)
+            .description("게시글 변경 알림 구독자 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * LISTEN 시작 (연결이 끊기거나 실패하면 계속 재연결)
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AtomicBoolean connectedBefore = new AtomicBoolean();
+        listener = listen(connectedBefore)
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getReconnectDelay())
+                .maxBackoff(MAX_RECONNECT_DELAY)
+                .transientErrors(true)
+                .doBeforeRetry(signal -> log.warn("게시글 변경 알림 연결 실패, 재연결: {}", signal.failure().toString())))
+            .repeatWhen(completed -> completed.delayElements(properties.getReconnectDelay()))
+            .subscribe(this::emit, error -> log.error("게시글 변경 알림 수신 중단", error));
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = listener;
+        if (current != null) {
+            current.dispose();
+        }
+        sink.tryEmitComplete();
+    }
+
+    /**
+     * 변경 이벤트 구독
+     */
+    public Flux<PostChangeEvent> events() {
+        return sink.asFlux()
+            .onBackpressureBuffer(properties.getSubscriberBufferSize(),
+                dropped -> log.debug("느린 구독자 이벤트 버림: {}", dropped),
+                BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    /**
+     * 변경 발송 (실패해도 게시글 변경 응답은 막지 않음)
+     */
+    public Mono<Void> publish(PostChangeEvent.Type type, Post post) {
+        PostChangeEvent event = PostChangeEvent.builder()
+            .type(type)
+            .postId(post.getId())
+            .status(post.getStatus())
+            .occurredAt(LocalDateTime.now())
+            .build();
+        if (!properties.isEnabled()) {
+            return Mono.fromRunnable(() -> emit(event));
+        }
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(event))
+            .flatMap(payload -> databaseClient.sql("SELECT pg_notify(:channel, :payload)")
+                .bind("channel", properties.getChannel())
+                .bind("payload", payload)
+                .then())
+            .onErrorResume(error -> {
+                log.warn("게시글 변경 알림 발송 실패, 이 노드에만 전달: type={}, postId={}", type, post.getId(), error);
+                emit(event);
+                return Mono.empty();
+            });
+    }
+
+    private Flux<PostChangeEvent> listen(AtomicBoolean connectedBefore) {
+        String channel = properties.getChannel();
+        return Flux.usingWhen(
+            Mono.from(listenerConnectionFactory().create()).cast(PostgresqlConnection.class),
+            connection -> connection.createStatement("LISTEN \"" + channel + "\"")
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .thenMany(Flux.defer(() -> {
+                    log.info("게시글 변경 알림 수신 시작: channel={}", channel);
+                    Flux<PostChangeEvent> events = connection.getNotifications()
+                        .filter(notification -> channel.equals(notification.getName()))
+                        .mapNotNull(this::parse);
+                    // 재연결이면 끊긴 동안 놓친 변경이 있을 수 있음
+                    return connectedBefore.getAndSet(true) ? events.startWith(resync()) : events;
+                })),
+            PostgresqlConnection::close);
+    }
+
+    private ConnectionFactory listenerConnectionFactory() {
+        return connectionFactory instanceof ConnectionPool pool ? pool.unwrap() : connectionFactory;
+    }
+
+    private PostChangeEvent parse(Notification notification) {
+        try {
+            return objectMapper.readValue(notification.getParameter(), PostChangeEvent.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("게시글 변경 알림 형식 오류: {}", notification.getParameter(), e);
+            return null;
+        }
+    }
+
+    private static PostChangeEvent resync() {
+        return PostChangeEvent.builder()
+            .type(PostChangeEvent.Type.RESYNC)
+            .occurredAt(LocalDateTime.now())
+            .build();
+    }
+
+    private void emit(PostChangeEvent event) {
+        if (event.getPostId() != null) {
+            lastKnownGood.evictPost(event.getPostId());
+        }
+        // 구독자가 없으면 버림, 동시 발송(알림 미사용 시)은 잠깐 재시도
+        sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+}
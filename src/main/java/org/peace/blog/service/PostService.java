@@ -3,16 +3,25 @@ package org.peace.blog.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.peace.blog.entity.Post;
+import org.peace.blog.model.PostChangeEvent;
 import org.peace.blog.repository.PostRepository;
+import org.peace.blog.util.SingleFlight;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * PostService
  * 게시글 관련 비즈니스 로직 처리
+ * - 같은 조회가 동시에 들어오면 DB 쿼리 1번으로 합침 (SingleFlight, 키 = 쿼리 + 파라미터)
+ * - 합쳐진 결과는 공유 객체이므로 호출자마다 복사해서 반환
+ * - DB 호출은 조회/쓰기 bulkhead를 거침 (한도 초과 시 503, DatabaseBulkheads)
+ * - 조회는 DB를 쓸 수 없으면 마지막 정상 응답으로 대체 (LastKnownGoodCache)
+ * - 생성/수정/발행/삭제는 저장 후 변경 알림 발송 (PostChangeFeed, 모든 노드에 전달)
  */
 @Slf4j
 @Service
@@ -20,6 +29,13 @@ import java.time.LocalDateTime;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final DatabaseBulkheads bulkheads;
+    private final LastKnownGoodCache lastKnownGood;
+    private final PostChangeFeed changeFeed;
+
+    private final SingleFlight<Long, Post> postFlights = new SingleFlight<>();
+    private final SingleFlight<List<Object>, List<Post>> listFlights = new SingleFlight<>();
 
     /**
      * 게시글 생성
@@ -37,126 +53,164 @@ public class PostService {
             post.setCommentEnabled(true);
         }
 
-        return postRepository.save(post)
-            .doOnSuccess(p -> log.info("게시글 생성 완료: ID={}, 제목={}", p.getId(), p.getTitle()));
+        return bulkheads.write(postRepository.save(post))
+            .flatMap(saved -> changeFeed.publish(PostChangeEvent.Type.CREATED, saved).thenReturn(saved))
+            .doOnSuccess(p -> log.debug("게시글 생성 완료: ID={}, 제목={}", p.getId(), p.getTitle()));
     }
 
     /**
      * 게시글 수정
+     * - 수정하는 컬럼만 UPDATE하여 버퍼에서 반영된 조회수를 덮어쓰지 않음
      */
     public Mono<Post> updatePost(Long id, Post updatedPost) {
-        return postRepository.findById(id)
+        return bulkheads.write(postRepository.updateContent(id,
+                updatedPost.getTitle(),
+                updatedPost.getContent(),
+                updatedPost.getSummary(),
+                updatedPost.getCategory(),
+                updatedPost.getTags(),
+                updatedPost.getCommentEnabled(),
+                LocalDateTime.now()))
             .switchIfEmpty(Mono.error(new RuntimeException("게시글을 찾을 수 없습니다")))
-            .flatMap(existingPost -> {
-                existingPost.setTitle(updatedPost.getTitle());
-                existingPost.setContent(updatedPost.getContent());
-                existingPost.setSummary(updatedPost.getSummary());
-                existingPost.setCategory(updatedPost.getCategory());
-                existingPost.setTags(updatedPost.getTags());
-                existingPost.setCommentEnabled(updatedPost.getCommentEnabled());
-                existingPost.setUpdatedAt(LocalDateTime.now());
-
-                return postRepository.save(existingPost);
-            })
-            .doOnSuccess(p -> log.info("게시글 수정 완료: ID={}", p.getId()));
+            .flatMap(saved -> changeFeed.publish(PostChangeEvent.Type.UPDATED, saved).thenReturn(saved))
+            .doOnSuccess(p -> log.debug("게시글 수정 완료: ID={}", p.getId()));
     }
 
     /**
      * 게시글 발행
      */
     public Mono<Post> publishPost(Long id) {
-        return postRepository.findById(id)
+        return bulkheads.write(postRepository.publish(id, LocalDateTime.now()))
             .switchIfEmpty(Mono.error(new RuntimeException("게시글을 찾을 수 없습니다")))
-            .flatMap(post -> {
-                post.setStatus("PUBLISHED");
-                post.setPublishedAt(LocalDateTime.now());
-                post.setUpdatedAt(LocalDateTime.now());
-                return postRepository.save(post);
-            })
-            .doOnSuccess(p -> log.info("게시글 발행 완료: ID={}", p.getId()));
+            .flatMap(saved -> changeFeed.publish(PostChangeEvent.Type.PUBLISHED, saved).thenReturn(saved))
+            .doOnSuccess(p -> log.debug("게시글 발행 완료: ID={}", p.getId()));
     }
 
     /**
      * 게시글 조회 (조회수 증가)
+     * - 조회수는 ViewCountBuffer에 누적했다가 주기적으로 반영 (아직 반영되지 않은 값을 더해서 반환)
      */
     public Mono<Post> getPostById(Long id) {
-        return postRepository.findById(id)
+        return findPost(id)
             .switchIfEmpty(Mono.error(new RuntimeException("게시글을 찾을 수 없습니다")))
-            .flatMap(post -> {
-                post.setViewCount(post.getViewCount() + 1);
-                return postRepository.save(post);
-            })
-            .doOnSuccess(p -> log.info("게시글 조회: ID={}, 조회수={}", p.getId(), p.getViewCount()));
+            .map(post -> {
+                long pendingViews = viewCountBuffer.increment(id);
+                int viewCount = post.getViewCount() != null ? post.getViewCount() : 0;
+                post.setViewCount((int) (viewCount + pendingViews));
+                return post;
+            });
     }
 
     /**
      * 게시글 조회 (조회수 증가 없음)
      */
     public Mono<Post> getPostByIdWithoutIncrement(Long id) {
-        return postRepository.findById(id)
-            .switchIfEmpty(Mono.error(new RuntimeException("게시글을 찾을 수 없습니다")))
-            .doOnSuccess(p -> log.info("게시글 조회 (조회수 증가 없음): ID={}", p.getId()));
+        return findPost(id)
+            .switchIfEmpty(Mono.error(new RuntimeException("게시글을 찾을 수 없습니다")));
     }
 
     /**
      * 게시글 삭제
      */
     public Mono<Void> deletePost(Long id) {
-        return postRepository.findById(id)
+        return bulkheads.write(postRepository.findById(id))
             .switchIfEmpty(Mono.error(new RuntimeException("게시글을 찾을 수 없습니다")))
-            .flatMap(post -> postRepository.delete(post))
-            .doOnSuccess(v -> log.info("게시글 삭제 완료: ID={}", id));
+            .flatMap(post -> bulkheads.write(postRepository.delete(post))
+                .then(changeFeed.publish(PostChangeEvent.Type.DELETED, post)))
+            .doOnSuccess(v -> log.debug("게시글 삭제 완료: ID={}", id));
     }
 
     /**
      * 전체 게시글 목록 조회 (최신순)
      */
     public Flux<Post> getAllPosts() {
-        return postRepository.findAll()
-            .sort((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()))
-            .doOnComplete(() -> log.info("전체 게시글 목록 조회 완료"));
+        return findPosts(List.of("all"), postRepository::findAllByOrderByCreatedAtDesc);
     }
 
     /**
      * 발행된 게시글 목록 조회 (최신순)
      */
     public Flux<Post> getPublishedPosts() {
-        return postRepository.findByStatusOrderByCreatedAtDesc("PUBLISHED")
-            .doOnComplete(() -> log.info("발행된 게시글 목록 조회 완료"));
+        return findPosts(List.of("published"), () -> postRepository.findByStatusOrderByCreatedAtDesc("PUBLISHED"));
+    }
+
+    /**
+     * 조회수 상위 발행 게시글 조회
+     */
+    public Flux<Post> getMostViewedPosts(int limit) {
+        return findPosts(List.of("mostViewed", limit), () -> postRepository.findMostViewedPublished(limit));
+    }
+
+    /**
+     * 최근 발행 게시글 조회
+     */
+    public Flux<Post> getRecentPublishedPosts(int limit) {
+        return findPosts(List.of("recentPublished", limit), () -> postRepository.findRecentPublished(limit));
     }
 
     /**
      * 작성자별 게시글 목록 조회
      */
     public Flux<Post> getPostsByAuthor(String username) {
-        return postRepository.findByUsername(username)
-            .sort((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()))
-            .doOnComplete(() -> log.info("작성자별 게시글 목록 조회 완료: username={}", username));
+        return findPosts(List.of("author", username),
+            () -> postRepository.findByUsernameOrderByCreatedAtDesc(username));
     }
 
     /**
      * 카테고리별 게시글 목록 조회
      */
     public Flux<Post> getPostsByCategory(String category) {
-        return postRepository.findByCategory(category)
-            .sort((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()))
-            .doOnComplete(() -> log.info("카테고리별 게시글 목록 조회 완료: category={}", category));
+        return findPosts(List.of("category", category),
+            () -> postRepository.findByCategoryOrderByCreatedAtDesc(category));
     }
 
     /**
      * 작성자 username과 상태로 게시글 목록 조회
      */
     public Flux<Post> getPostsByAuthorAndStatus(String username, String status) {
-        return postRepository.findByUsernameAndStatus(username, status)
-            .sort((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()))
-            .doOnComplete(() -> log.info("작성자 및 상태별 게시글 목록 조회 완료: username={}, status={}", username, status));
+        return findPosts(List.of("authorStatus", username, status),
+            () -> postRepository.findByUsernameAndStatusOrderByCreatedAtDesc(username, status));
+    }
+
+    /**
+     * 게시글 변경 알림 구독
+     */
+    public Flux<PostChangeEvent> getChanges() {
+        return changeFeed.events();
     }
 
     /**
      * 전체 게시글 수 조회
      */
     public Mono<Long> getPostCount() {
-        return postRepository.count()
-            .doOnSuccess(count -> log.info("전체 게시글 수: {}", count));
+        return bulkheads.read(postRepository.count());
+    }
+
+    /**
+     * 단건 조회 (동시 조회 합침, DB 장애 시 마지막 정상 응답)
+     */
+    private Mono<Post> findPost(Long id) {
+        List<Object> key = List.of("post", id);
+        return lastKnownGood.serve(key, () -> postFlights.execute(id,
+                () -> lastKnownGood.guard(key, bulkheads.read(postRepository.findById(id)))))
+            .map(PostService::copy);
+    }
+
+    /**
+     * 목록 조회 (동시 조회 합침)
+     * - 합친 조회는 결과를 목록으로 모아 공유하고, 호출자마다 복사본을 스트림으로 반환
+     * - DB 장애 시 마지막 정상 응답
+     */
+    private Flux<Post> findPosts(List<Object> key, Supplier<Flux<Post>> query) {
+        return lastKnownGood.serve(key, () -> listFlights.execute(key,
+                () -> lastKnownGood.guard(key, bulkheads.read(query.get().collectList()))))
+            .flatMapIterable(posts -> posts)
+            .map(PostService::copy);
+    }
+
+    private static Post copy(Post post) {
+        return post.toBuilder()
+            .tags(post.getTags() != null ? post.getTags().clone() : null)
+            .build();
     }
 }
@@ -0,0 +1,294 @@
+package org.peace.blog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ReactionProperties;
+import org.peace.blog.util.RequestTimings;
+import org.peace.blog.util.SingleFlight;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 반응 수 집계
+ * - 반응은 메모리 대기열에 모았다가 주기적으로 한 번의 SQL로 반영
+ *   (post_reactions에 사용자별 행을 넣어 노드 간 중복을 거르고, 실제로 들어간 건만 post_reaction_shards에 더함)
+ * - 반영할 shard는 일괄 반영마다 무작위로 골라 인기 게시글도 여러 행에 나누어 갱신 (노드를 늘리면 쓰기도 함께 늘어남)
+ * - 반영 전 반응 수는 게시글/반응별 LongAdder에 누적하여 조회 결과에 더함 (표시용, 중복은 반영 시 걸러짐)
+ * - 조회는 shard 합산 결과를 reactions.count-cache-ttl 동안 캐시, 동시 조회는 1번으로 합침
+ * - DB를 쓸 수 없어 실패하면 대기열로 되돌려 다음 주기에 다시 시도
+ * - 그 밖의 실패는 묶음을 절반씩 나누어 다시 반영하여 문제 행만 골라내고,
+ *   1건으로도 reactions.max-attempts번 실패한 반응은 로그를 남기고 버림 (대기열 자리를 계속 차지하지 않도록)
+ * - 종료 시 남은 반응을 반영
+ */
+@Slf4j
+@Component
+public class ReactionCounter {
+
+    private static final String FLUSH_SQL = """
+        WITH v AS (
+            SELECT DISTINCT v.post_id, v.reaction, v.user_key
+            FROM unnest(CAST(:postIds AS BIGINT[]), CAST(:reactions AS VARCHAR[]), CAST(:userKeys AS VARCHAR[]))
+                AS v(post_id, reaction, user_key)
+            JOIN posts p ON p.id = v.post_id
+            ORDER BY v.post_id, v.reaction, v.user_key
+        ), ins AS (
+            INSERT INTO post_reactions (post_id, reaction, user_key, created_at)
+            SELECT post_id, reaction, user_key, now() FROM v
+            ON CONFLICT DO NOTHING
+            RETURNING post_id, reaction
+        )
+        INSERT INTO post_reaction_shards (post_id, reaction, shard, reaction_count)
+        SELECT post_id, reaction, CAST(:shard AS SMALLINT), count(*) FROM ins
+        GROUP BY post_id, reaction
+        ORDER BY post_id, reaction
+        ON CONFLICT (post_id, reaction, shard) DO UPDATE
+        SET reaction_count = post_reaction_shards.reaction_count + EXCLUDED.reaction_count
+        """;
+
+    // 게시글이 없으면 행 없음, 반응이 없으면 reaction이 NULL인 행 1개
+    private static final String SUM_SQL = """
+        SELECT s.reaction, CAST(SUM(s.reaction_count) AS BIGINT) AS total
+        FROM posts p
+        LEFT JOIN post_reaction_shards s ON s.post_id = p.id
+        WHERE p.id = :postId
+        GROUP BY s.reaction
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final DatabaseBulkheads bulkheads;
+    private final ReactionProperties properties;
+
+    private final ConcurrentLinkedQueue<PendingReaction> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    // postId -> 반응 종류 -> 반영 전 반응 수
+    private final Map<Long, Map<String, LongAdder>> pendingCounts = new ConcurrentHashMap<>();
+    private final Map<Long, CachedSums> sumCache = new ConcurrentHashMap<>();
+    private final SingleFlight<Long, Map<String, Long>> sumFlights = new SingleFlight<>();
+
+    public ReactionCounter(DatabaseClient databaseClient, DatabaseBulkheads bulkheads,
+                           ReactionProperties properties) {
+        this.databaseClient = databaseClient;
+        this.bulkheads = bulkheads;
+        this.properties = properties;
+    }
+
+    /**
+     * 대기열 자리 확보
+     * @return 대기열이 가득 차 있으면 false
+     */
+    public boolean reserve() {
+        if (queued.incrementAndGet() > properties.getMaxPending()) {
+            queued.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 확보한 자리 반납 (중복 반응이라 넣지 않는 경우)
+     */
+    public void release() {
+        queued.decrementAndGet();
+    }
+
+    /**
+     * 반응 1건 추가 (reserve로 자리를 확보한 뒤 호출)
+     */
+    public void add(Long postId, String reaction, String userKey) {
+        queue.add(new PendingReaction(postId, reaction, userKey, 0));
+        pendingCounts.computeIfAbsent(postId, id -> new ConcurrentHashMap<>())
+            .computeIfAbsent(reaction, r -> new LongAdder())
+            .increment();
+    }
+
+    /**
+     * 게시글의 반응 종류별 수 (DB shard 합산 + 이 노드의 반영 전 수)
+     * @return 게시글이 없으면 empty
+     */
+    public Mono<Map<String, Long>> counts(Long postId) {
+        return storedCounts(postId).map(stored -> {
+            Map<String, Long> counts = new TreeMap<>(stored);
+            Map<String, LongAdder> pending = pendingCounts.get(postId);
+            if (pending != null) {
+                pending.forEach((reaction, adder) -> {
+                    long value = adder.sum();
+                    if (value > 0) {
+                        counts.merge(reaction, value, Long::sum);
+                    }
+                });
+            }
+            return counts;
+        });
+    }
+
+    /**
+     * 대기 중인 반응을 DB에 반영 (1회 최대 reactions.max-batch-size건)
+     */
+    @Scheduled(fixedDelayString = "${reactions.flush-interval-ms:500}")
+    public Mono<Void> flush() {
+        if (queue.isEmpty()) {
+            return Mono.empty();
+        }
+        List<PendingReaction> batch = new ArrayList<>();
+        PendingReaction reaction;
+        while (batch.size() < properties.getMaxBatchSize() && (reaction = queue.poll()) != null) {
+            batch.add(reaction);
+        }
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+        return write(batch);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush().block(Duration.ofSeconds(5));
+    }
+
+    private Mono<Void> write(List<PendingReaction> batch) {
+        Long[] postIds = new Long[batch.size()];
+        String[] reactions = new String[batch.size()];
+        String[] userKeys = new String[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            postIds[i] = batch.get(i).postId();
+            reactions[i] = batch.get(i).reaction();
+            userKeys[i] = batch.get(i).userKey();
+        }
+        int shard = ThreadLocalRandom.current().nextInt(properties.getShards());
+        return bulkheads.write(databaseClient.sql(FLUSH_SQL)
+                .bind("postIds", postIds)
+                .bind("reactions", reactions)
+                .bind("userKeys", userKeys)
+                .bind("shard", shard)
+                .fetch()
+                .rowsUpdated())
+            .doOnNext(updated -> {
+                settle(batch);
+                log.debug("반응 반영: {}건, shard={}, 갱신 행={}", batch.size(), shard, updated);
+            })
+            .then()
+            .onErrorResume(e -> onWriteFailed(batch, e));
+    }
+
+    private Mono<Void> onWriteFailed(List<PendingReaction> batch, Throwable e) {
+        if (DatabaseBulkheads.isUnavailable(e)) {
+            log.warn("반응 반영 실패, 다음 주기에 재시도: {}건", batch.size(), e);
+            queue.addAll(batch);
+            return Mono.empty();
+        }
+        if (batch.size() > 1) {
+            // 일부 행 때문에 실패했을 수 있으므로 절반씩 나누어 다시 반영
+            log.debug("반응 반영 실패, 나누어 재시도: {}건", batch.size(), e);
+            int half = batch.size() / 2;
+            return write(batch.subList(0, half))
+                .then(Mono.defer(() -> write(batch.subList(half, batch.size()))));
+        }
+        PendingReaction reaction = batch.get(0);
+        if (reaction.attempts() + 1 >= properties.getMaxAttempts()) {
+            log.error("반응 반영 {}회 실패, 버림: postId={}, reaction={}",
+                reaction.attempts() + 1, reaction.postId(), reaction.reaction(), e);
+            settle(batch);
+            return Mono.empty();
+        }
+        log.warn("반응 반영 실패, 다음 주기에 재시도: postId={}, reaction={}", reaction.postId(), reaction.reaction(), e);
+        queue.add(reaction.retried());
+        return Mono.empty();
+    }
+
+    /**
+     * 반영했거나 버린 반응의 대기열 자리와 반영 전 수 정리
+     */
+    private void settle(List<PendingReaction> batch) {
+        queued.addAndGet(-batch.size());
+        Set<Long> postIds = new HashSet<>();
+        for (PendingReaction reaction : batch) {
+            postIds.add(reaction.postId());
+            Map<String, LongAdder> pending = pendingCounts.get(reaction.postId());
+            if (pending != null) {
+                LongAdder adder = pending.get(reaction.reaction());
+                if (adder != null) {
+                    adder.decrement();
+                }
+            }
+        }
+        for (Long postId : postIds) {
+            // 반영된 수가 캐시에 없으므로 다음 조회에서 다시 합산
+            sumCache.remove(postId);
+            pendingCounts.computeIfPresent(postId, (id, pending) ->
+                pending.values().stream().allMatch(adder -> adder.sum() == 0) ? null : pending);
+        }
+    }
+
+    /**
+     * DB shard 합산 결과 (캐시 적중 여부는 측정 요청이면 cache-reactions로 기록)
+     * - 게시글이 없다는 결과도 같은 시간 동안 캐시하고 empty 반환
+     */
+    private Mono<Map<String, Long>> storedCounts(Long postId) {
+        return Mono.deferContextual(context -> {
+            CachedSums cached = sumCache.get(postId);
+            boolean hit = cached != null && cached.expiresAt() - System.nanoTime() > 0;
+            RequestTimings timings = RequestTimings.from(context);
+            if (timings != null) {
+                timings.recordCache("reactions", hit);
+            }
+            return hit ? Mono.justOrEmpty(cached.sums()) : loadCounts(postId);
+        });
+    }
+
+    private Mono<Map<String, Long>> loadCounts(Long postId) {
+        return sumFlights.execute(postId, () -> bulkheads.read(databaseClient.sql(SUM_SQL)
+                .bind("postId", postId)
+                .map((row, metadata) -> new SumRow(row.get("reaction", String.class), row.get("total", Long.class)))
+                .all()
+                .collectList())
+            .flatMap(rows -> {
+                Map<String, Long> sums = null;
+                if (!rows.isEmpty()) {
+                    sums = new LinkedHashMap<>();
+                    for (SumRow row : rows) {
+                        if (row.reaction() != null) {
+                            sums.put(row.reaction(), row.total());
+                        }
+                    }
+                }
+                if (sumCache.size() >= properties.getMaxCachedPosts()) {
+                    sumCache.clear();
+                }
+                sumCache.put(postId, new CachedSums(sums,
+                    System.nanoTime() + properties.getCountCacheTtl().toNanos()));
+                return Mono.justOrEmpty(sums);
+            }));
+    }
+
+    private record PendingReaction(Long postId, String reaction, String userKey, int attempts) {
+
+        PendingReaction retried() {
+            return new PendingReaction(postId, reaction, userKey, attempts + 1);
+        }
+    }
+
+    private record SumRow(String reaction, Long total) {
+    }
+
+    /**
+     * @param sums 반응 종류별 수 (게시글이 없으면 null)
+     */
+    private record CachedSums(Map<String, Long> sums, long expiresAt) {
+    }
+}
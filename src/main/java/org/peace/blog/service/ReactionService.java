@@ -0,0 +1,78 @@
+package org.peace.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ReactionProperties;
+import org.peace.blog.exception.BulkheadFullException;
+import org.peace.blog.model.ReactionSummary;
+import org.peace.blog.util.FingerprintSet;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * ReactionService
+ * 게시글 반응(좋아요 등) 처리
+ * - 같은 사용자의 같은 반응은 이 노드의 최근 반응 fingerprint 집합으로 먼저 거름 (DB 왕복 없음)
+ * - 다른 노드에서 이미 한 반응은 반영 시 post_reactions 기본키로 걸러짐 (ReactionCounter)
+ * - 없는 게시글이면 404 (게시글 존재 여부는 반응 수 조회와 함께 확인/캐시되므로 추가 왕복 없음)
+ */
+@Slf4j
+@Service
+public class ReactionService {
+
+    private final ReactionCounter counter;
+    private final Set<String> types;
+    private final FingerprintSet recentReactions;
+
+    public ReactionService(ReactionCounter counter, ReactionProperties properties) {
+        this.counter = counter;
+        this.types = Set.copyOf(properties.getTypes());
+        this.recentReactions = new FingerprintSet(properties.getDedupeCapacity());
+    }
+
+    /**
+     * 반응 추가
+     * @return 새 반응이면 true, 이미 한 반응이면 false와 현재 반응 수
+     */
+    public Mono<Reacted> react(Long postId, String reaction, String userKey) {
+        String type = reaction.toUpperCase(Locale.ROOT);
+        if (!types.contains(type)) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 반응입니다: " + reaction));
+        }
+        // 게시글이 있는지 먼저 확인 (없는 게시글의 반응은 대기열/반영 전 수에 넣지 않음)
+        return getReactions(postId).flatMap(existing -> {
+            if (!counter.reserve()) {
+                return Mono.error(new BulkheadFullException("reactions"));
+            }
+            boolean added = recentReactions.add(FingerprintSet.fingerprint(postId + ":" + type + ":" + userKey));
+            if (added) {
+                counter.add(postId, type, userKey);
+            } else {
+                counter.release();
+            }
+            return getReactions(postId).map(summary -> new Reacted(added, summary));
+        });
+    }
+
+    /**
+     * 게시글의 반응 종류별 수 (게시글이 없으면 404)
+     */
+    public Mono<ReactionSummary> getReactions(Long postId) {
+        return counter.counts(postId)
+            .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다")))
+            .map(counts -> ReactionSummary.builder()
+                .postId(postId)
+                .counts(counts)
+                .build());
+    }
+
+    /**
+     * 반응 추가 결과
+     */
+    public record Reacted(boolean added, ReactionSummary summary) {
+    }
+}
@@ -0,0 +1,226 @@
+package org.peace.blog.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.TokenRevocationProperties;
+import org.peace.blog.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 폐기 서비스
+ * - 폐기된 jti는 PostgreSQL에 저장하고, 각 노드는 Bloom filter + 정확한 집합으로 메모리에 유지
+ * - 폐기되지 않은 토큰(대부분)은 Bloom filter에서 바로 걸러지므로 DB 조회와 객체 할당 없이 검증
+ * - 다른 노드에서 폐기된 토큰은 주기적 동기화로 반영
+ * - 폐기 내역은 대상 토큰이 모두 만료되면(jwt.expiration 경과) 정리
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    // 노드 간 동기화 시 시계 오차 여유
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final DatabaseClient databaseClient;
+    private final TokenRevocationProperties properties;
+    private final long tokenExpirationMs;
+
+    // jti -> 토큰 만료 시각 (epoch ms)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // username -> 이 시각(epoch ms) 이전에 발급된 토큰은 무효
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    private volatile int bloomCapacity;
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public TokenRevocationService(DatabaseClient databaseClient, TokenRevocationProperties properties,
+                                  @Value("${jwt.expiration:10800000}") long tokenExpirationMs) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+        this.tokenExpirationMs = tokenExpirationMs;
+        this.bloomFilter = newBloomFilter(0);
+    }
+
+    /**
+     * 시작 시 DB에서 폐기 목록 적재
+     */
+    @PostConstruct
+    public void init() {
+        synchronize()
+            .doOnSuccess(v -> log.info("JWT 폐기 목록 적재 완료: tokens={}, users={}",
+                revokedTokens.size(), revokedBefore.size()))
+            .subscribe(null, error -> log.error("JWT 폐기 목록 적재 실패", error));
+    }
+
+    /**
+     * 폐기 여부 확인 (메모리만 사용)
+     *
+     * @param jti 토큰 ID (이전 버전 토큰은 null)
+     * @param username 토큰 subject
+     * @param issuedAt 발급 시각
+     */
+    public boolean isRevoked(String jti, String username, Date issuedAt) {
+        if (!revokedBefore.isEmpty() && username != null && issuedAt != null) {
+            Long before = revokedBefore.get(username);
+            if (before != null && issuedAt.getTime() < before) {
+                return true;
+            }
+        }
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokens.containsKey(jti);
+    }
+
+    /**
+     * 토큰 1개 폐기 (로그아웃)
+     */
+    public Mono<Void> revoke(String jti, String username, Date expiresAt) {
+        LocalDateTime expiresAtTime = LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault());
+        return databaseClient.sql("""
+                INSERT INTO revoked_tokens (jti, username, expires_at, revoked_at)
+                VALUES (:jti, :username, :expiresAt, :revokedAt)
+                ON CONFLICT (jti) DO NOTHING
+                """)
+            .bind("jti", jti)
+            .bind("username", username)
+            .bind("expiresAt", expiresAtTime)
+            .bind("revokedAt", LocalDateTime.now())
+            .then()
+            .doOnSuccess(v -> {
+                addRevokedToken(jti, expiresAt.getTime());
+                log.info("JWT 폐기: username={}, jti={}", username, jti);
+            });
+    }
+
+    /**
+     * 사용자의 기존 토큰 전체 폐기
+     * - JWT 발급 시각(iat)은 초 단위로 내림되므로 폐기 기준 시각은 다음 초로 올림
+     *   (같은 초에 발급된 토큰도 무효, 폐기 직후 같은 초에 새로 발급된 토큰도 함께 무효가 됨)
+     */
+    public Mono<Void> revokeAllForUser(String username) {
+        Instant revokedBeforeInstant = Instant.ofEpochSecond(Instant.now().getEpochSecond() + 1);
+        return databaseClient.sql("""
+                INSERT INTO user_token_revocations (username, revoked_before, revoked_at)
+                VALUES (:username, :revokedBefore, :revokedAt)
+                ON CONFLICT (username) DO UPDATE
+                SET revoked_before = EXCLUDED.revoked_before, revoked_at = EXCLUDED.revoked_at
+                """)
+            .bind("username", username)
+            .bind("revokedBefore", LocalDateTime.ofInstant(revokedBeforeInstant, ZoneId.systemDefault()))
+            .bind("revokedAt", LocalDateTime.now())
+            .then()
+            .doOnSuccess(v -> {
+                revokedBefore.merge(username, revokedBeforeInstant.toEpochMilli(), Math::max);
+                log.info("사용자 JWT 전체 폐기: username={}", username);
+            });
+    }
+
+    /**
+     * 다른 노드에서 추가된 폐기 내역 동기화
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:5000}")
+    public Mono<Void> synchronize() {
+        LocalDateTime since = lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS);
+        LocalDateTime now = LocalDateTime.now();
+
+        Mono<Void> tokens = databaseClient.sql("""
+                SELECT jti, expires_at FROM revoked_tokens
+                WHERE revoked_at >= :since AND expires_at > :now
+                """)
+            .bind("since", since)
+            .bind("now", now)
+            .map((row, metadata) -> {
+                addRevokedToken(row.get("jti", String.class), toEpochMillis(row.get("expires_at", LocalDateTime.class)));
+                return 1;
+            })
+            .all()
+            .then();
+
+        Mono<Void> users = databaseClient.sql("""
+                SELECT username, revoked_before FROM user_token_revocations
+                WHERE revoked_at >= :since
+                """)
+            .bind("since", since)
+            .map((row, metadata) -> revokedBefore.merge(row.get("username", String.class),
+                toEpochMillis(row.get("revoked_before", LocalDateTime.class)), Math::max))
+            .all()
+            .then();
+
+        return tokens.then(users)
+            .doOnSuccess(v -> lastSyncedAt = now)
+            .onErrorResume(e -> {
+                log.warn("JWT 폐기 목록 동기화 실패", e);
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * 만료된 폐기 내역 정리
+     * - Bloom filter는 삭제를 지원하지 않으므로 남은 집합으로 다시 생성
+     * - 사용자 전체 폐기는 기준 시각 이전에 발급된 토큰이 모두 만료되면(jwt.expiration 경과) 삭제
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.prune-interval-ms:600000}")
+    public Mono<Void> pruneExpired() {
+        long now = System.currentTimeMillis();
+        long revokedBeforeCutoff = now - tokenExpirationMs;
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedBefore.values().removeIf(before -> before <= revokedBeforeCutoff);
+        rebuildBloomFilter();
+
+        LocalDateTime nowTime = LocalDateTime.now();
+        Mono<Void> tokens = databaseClient.sql("DELETE FROM revoked_tokens WHERE expires_at <= :now")
+            .bind("now", nowTime)
+            .then();
+        Mono<Void> users = databaseClient.sql("DELETE FROM user_token_revocations WHERE revoked_before <= :cutoff")
+            .bind("cutoff", nowTime.minus(Duration.ofMillis(tokenExpirationMs)))
+            .then();
+
+        return tokens.then(users)
+            .onErrorResume(e -> {
+                log.warn("만료된 JWT 폐기 내역 삭제 실패", e);
+                return Mono.empty();
+            });
+    }
+
+    private void addRevokedToken(String jti, long expiresAtMillis) {
+        revokedTokens.put(jti, expiresAtMillis);
+        bloomFilter.put(jti);
+        if (revokedTokens.size() > bloomCapacity) {
+            // 예상보다 많이 쌓이면 오탐률이 올라가므로 더 크게 다시 생성
+            rebuildBloomFilter();
+        }
+    }
+
+    /**
+     * 현재 집합으로 Bloom filter 재생성
+     * - 재생성 중 추가된 jti가 누락되지 않도록 교체 후 한 번 더 반영
+     */
+    private synchronized void rebuildBloomFilter() {
+        BloomFilter rebuilt = newBloomFilter(revokedTokens.size());
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        revokedTokens.keySet().forEach(rebuilt::put);
+    }
+
+    private BloomFilter newBloomFilter(int size) {
+        bloomCapacity = Math.max(properties.getExpectedRevocations(), size * 2);
+        return new BloomFilter(bloomCapacity, properties.getFalsePositiveRate());
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,187 @@
+package org.peace.blog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.ImageUploadProperties;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드 승인 제어기
+ * - 노드당 동시 업로드 수와 처리 중인 바이트 합계를 제한
+ * - 한도를 넘으면 대기시키지 않고 즉시 503, 크기 초과는 413으로 거절
+ * - 게시글 조회 등 다른 요청의 디스크 I/O / direct memory를 업로드가 다 쓰지 않도록 함
+ */
+@Slf4j
+@Component
+public class UploadAdmissionController {
+
+    private final ImageUploadProperties properties;
+
+    private final AtomicInteger activeUploads = new AtomicInteger();
+    private final AtomicLong inFlightBytes = new AtomicLong();
+
+    private final Counter rejectedConcurrency;
+    private final Counter rejectedBytes;
+    private final Counter rejectedSize;
+
+    public UploadAdmissionController(ImageUploadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        Gauge.builder("image.upload.active", activeUploads, AtomicInteger::get)
+            .description("처리 중인 업로드 수")
+            .register(meterRegistry);
+        Gauge.builder("image.upload.inflight.bytes", inFlightBytes, AtomicLong::get)
+            .description("처리 중인 업로드 바이트 합계")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.rejectedConcurrency = meterRegistry.counter("image.upload.rejected", "reason", "concurrency");
+        this.rejectedBytes = meterRegistry.counter("image.upload.rejected", "reason", "bytes");
+        this.rejectedSize = meterRegistry.counter("image.upload.rejected", "reason", "size");
+    }
+
+    /**
+     * 업로드 승인
+     * - Content-Length를 알면 그만큼 미리 예약하고, 모르면 읽는 만큼 예약
+     *
+     * @param declaredLength Content-Length (모르면 -1)
+     * @param maxBytes 요청 1건의 최대 크기
+     * @return 승인 (처리가 끝나면 반드시 release)
+     * @throws ResponseStatusException 크기 초과 413, 한도 초과 503
+     */
+    public Permit admit(long declaredLength, long maxBytes) {
+        if (declaredLength > maxBytes) {
+            rejectedSize.increment();
+            throw payloadTooLarge(maxBytes);
+        }
+
+        int active = activeUploads.incrementAndGet();
+        if (active > properties.getMaxConcurrentUploads()) {
+            activeUploads.decrementAndGet();
+            rejectedConcurrency.increment();
+            log.warn("동시 업로드 한도 초과: {}", properties.getMaxConcurrentUploads());
+            throw serviceUnavailable();
+        }
+
+        Permit permit = new Permit(maxBytes);
+        if (declaredLength > 0 && !permit.reserve(declaredLength)) {
+            permit.release();
+            throw serviceUnavailable();
+        }
+        return permit;
+    }
+
+    /**
+     * 스트림 크기 제한 (초과 시 413)
+     * - 업로드 파일 1개의 크기를 기록 중에 검사
+     */
+    public Flux<DataBuffer> limitSize(Flux<DataBuffer> content, long maxBytes) {
+        return Flux.defer(() -> {
+            long[] total = new long[1];
+            return content.handle((buffer, sink) -> {
+                total[0] += buffer.readableByteCount();
+                if (total[0] > maxBytes) {
+                    DataBufferUtils.release(buffer);
+                    rejectedSize.increment();
+                    sink.error(payloadTooLarge(maxBytes));
+                    return;
+                }
+                sink.next(buffer);
+            });
+        });
+    }
+
+    public int getActiveUploads() {
+        return activeUploads.get();
+    }
+
+    public long getInFlightBytes() {
+        return inFlightBytes.get();
+    }
+
+    private ResponseStatusException payloadTooLarge(long maxBytes) {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+            "업로드 크기가 제한(" + maxBytes + " bytes)을 초과했습니다");
+    }
+
+    private ResponseStatusException serviceUnavailable() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+            "업로드 요청이 많습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    /**
+     * 업로드 1건의 승인 상태
+     * - 예약한 바이트는 release 시 한 번에 반환
+     */
+    public class Permit {
+
+        private final long maxBytes;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private long reservedBytes;
+        private long receivedBytes;
+
+        private Permit(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        /**
+         * 요청 본문 크기 제한 적용
+         * - 예약량을 넘어 읽으면 추가 예약하고, 노드 한도를 넘으면 503, 요청 한도를 넘으면 413
+         */
+        public Flux<DataBuffer> limit(Flux<DataBuffer> body) {
+            return body.handle((buffer, sink) -> {
+                ResponseStatusException error = onReceived(buffer.readableByteCount());
+                if (error != null) {
+                    DataBufferUtils.release(buffer);
+                    sink.error(error);
+                    return;
+                }
+                sink.next(buffer);
+            });
+        }
+
+        private synchronized ResponseStatusException onReceived(int bytes) {
+            receivedBytes += bytes;
+            if (receivedBytes > maxBytes) {
+                rejectedSize.increment();
+                return payloadTooLarge(maxBytes);
+            }
+            if (receivedBytes > reservedBytes && !reserve(receivedBytes - reservedBytes)) {
+                return serviceUnavailable();
+            }
+            return null;
+        }
+
+        private synchronized boolean reserve(long bytes) {
+            long total = inFlightBytes.addAndGet(bytes);
+            if (total > properties.getMaxInFlightBytes().toBytes()) {
+                inFlightBytes.addAndGet(-bytes);
+                rejectedBytes.increment();
+                log.warn("업로드 처리 중 바이트 한도 초과: {}", properties.getMaxInFlightBytes());
+                return false;
+            }
+            reservedBytes += bytes;
+            return true;
+        }
+
+        /**
+         * 승인 반환 (여러 번 호출해도 한 번만 반환)
+         */
+        public synchronized void release() {
+            if (released.compareAndSet(false, true)) {
+                inFlightBytes.addAndGet(-reservedBytes);
+                activeUploads.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.peace.blog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.repository.PostRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 버퍼
+ * - 조회마다 UPDATE 하지 않고 메모리에 누적한 뒤 주기적으로 한 번의 UPDATE로 반영
+ * - 인기 게시글에 조회가 몰려도 같은 행에 대한 UPDATE 경합이 생기지 않음
+ * - 반영 실패 시 누적값을 되돌려 다음 주기에 다시 시도, 종료 시 남은 값을 반영
+ * - 반영 전 조회수는 응답에 더해서 보여주므로 사용자에게는 즉시 증가한 것으로 보임
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 1회 기록
+     * @return 아직 DB에 반영되지 않은 이 게시글의 조회수
+     */
+    public long increment(Long postId) {
+        return pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${posts.view-count.flush-interval-ms:1000}")
+    public Mono<Void> flush() {
+        if (pending.isEmpty()) {
+            return Mono.empty();
+        }
+        List<Long> ids = new ArrayList<>(pending.size());
+        List<Long> deltas = new ArrayList<>(pending.size());
+        for (Long id : List.copyOf(pending.keySet())) {
+            // 키 단위로 원자적으로 꺼냄 (이후 조회는 새 항목으로 누적)
+            Long delta = pending.remove(id);
+            if (delta != null) {
+                ids.add(id);
+                deltas.add(delta);
+            }
+        }
+        return postRepository.incrementViewCounts(ids.toArray(Long[]::new), deltas.toArray(Long[]::new))
+            .doOnNext(updated -> log.debug("조회수 반영: {}건", updated))
+            .onErrorResume(e -> {
+                log.warn("조회수 반영 실패, 다음 주기에 재시도: {}건", ids.size(), e);
+                for (int i = 0; i < ids.size(); i++) {
+                    pending.merge(ids.get(i), deltas.get(i), Long::sum);
+                }
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush().block(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,25 @@
+package org.peace.blog.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워밍업 상태 헬스 체크 ("warmup")
+ * - readiness 그룹에 포함되어, 워밍업이 끝나기 전에는 로드밸런서가 트래픽을 보내지 않음
+ * - 관리 포트의 GET /actuator/health/readiness
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupService warmupService;
+
+    @Override
+    public Health health() {
+        WarmupService.State state = warmupService.getState();
+        Health.Builder builder = state.isFinished() ? Health.up() : Health.outOfService();
+        return builder.withDetail("state", state).build();
+    }
+}
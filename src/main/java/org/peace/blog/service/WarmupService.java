@@ -0,0 +1,160 @@
+package org.peace.blog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.peace.blog.config.WarmupProperties;
+import org.peace.blog.entity.Post;
+import org.peace.blog.entity.User;
+import org.peace.blog.util.JwtUtil;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 기동 후 워밍업
+ * - ApplicationReadyEvent 이후 실행되며, 끝나기 전까지 readiness는 OUT_OF_SERVICE (WarmupHealthIndicator)
+ * - 1. R2DBC 커넥션 풀을 최소 크기까지 미리 연결
+ * - 2. 조회수 상위/최근 발행 게시글을 목록·단건 쿼리로 미리 읽음 (DB 버퍼 캐시, 쿼리 경로)
+ * - 3. JSON 직렬화와 JWT 발급·검증을 반복 실행하여 JIT 컴파일 유도
+ * - 제한 시간을 넘거나 실패해도 준비 완료로 전환 (노드가 영구히 트래픽을 받지 못하는 것 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarmupService {
+
+    public enum State {
+        PENDING, RUNNING, COMPLETED, TIMED_OUT, FAILED;
+
+        public boolean isFinished() {
+            return this != PENDING && this != RUNNING;
+        }
+    }
+
+    private static final String SAMPLE_CONTENT = "워밍업 ".repeat(500);
+
+    private final WarmupProperties properties;
+    private final ConnectionFactory connectionFactory;
+    private final PostService postService;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * 워밍업 시작 (비동기, 한 번만 실행)
+     */
+    public void start() {
+        if (!state.compareAndSet(State.PENDING, State.RUNNING)) {
+            return;
+        }
+        if (!properties.isEnabled()) {
+            state.set(State.COMPLETED);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        warmUp()
+            .timeout(properties.getTimeout())
+            .subscribe(
+                null,
+                error -> {
+                    boolean timedOut = error instanceof TimeoutException;
+                    state.set(timedOut ? State.TIMED_OUT : State.FAILED);
+                    log.warn("워밍업 {}: {} ms 후 준비 완료로 전환 ({})", timedOut ? "시간 초과" : "실패",
+                        elapsedMillis(startedAt), error.toString());
+                },
+                () -> {
+                    state.set(State.COMPLETED);
+                    log.info("워밍업 완료: {} ms", elapsedMillis(startedAt));
+                });
+    }
+
+    private Mono<Void> warmUp() {
+        return warmUpConnectionPool()
+            .then(preloadPosts())
+            .flatMap(posts -> Mono.fromRunnable(() -> exerciseCodePaths(posts))
+                .subscribeOn(Schedulers.boundedElastic()))
+            .then();
+    }
+
+    /**
+     * 커넥션 풀 최소 연결 생성 (spring.r2dbc.pool.initial-size)
+     */
+    private Mono<Integer> warmUpConnectionPool() {
+        if (connectionFactory instanceof ConnectionPool pool) {
+            return pool.warmup()
+                .doOnNext(count -> log.info("워밍업: R2DBC 커넥션 {}개 연결", count));
+        }
+        return Mono.just(0);
+    }
+
+    /**
+     * 조회수 상위/최근 발행 게시글 목록을 읽고, 각 게시글을 단건 조회 경로로 다시 읽음
+     */
+    private Mono<List<Post>> preloadPosts() {
+        int limit = properties.getPostLimit();
+        return Flux.concat(postService.getMostViewedPosts(limit), postService.getRecentPublishedPosts(limit))
+            .distinct(Post::getId)
+            .flatMap(post -> postService.getPostByIdWithoutIncrement(post.getId()), 4)
+            .collectList()
+            .doOnNext(posts -> log.info("워밍업: 게시글 {}건 미리 읽음", posts.size()));
+    }
+
+    /**
+     * JSON 직렬화/역직렬화와 JWT 발급·검증 반복 (응답 인코더와 같은 ObjectMapper 사용)
+     */
+    private void exerciseCodePaths(List<Post> posts) {
+        List<Post> samples = posts.isEmpty() ? List.of(samplePost()) : posts;
+        User user = new User(0L, "ADMIN", "warmup", null, null);
+        try {
+            for (int i = 0; i < properties.getIterations(); i++) {
+                Post post = samples.get(i % samples.size());
+                byte[] json = objectMapper.writeValueAsBytes(post);
+                objectMapper.readValue(json, Post.class);
+
+                String token = jwtUtil.generateToken(user);
+                jwtUtil.parseValidClaims(token);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("워밍업 JSON 처리 실패", e);
+        }
+        log.info("워밍업: JSON/JWT 경로 {}회 실행", properties.getIterations());
+    }
+
+    private static Post samplePost() {
+        return Post.builder()
+            .id(0L)
+            .title("워밍업")
+            .content(SAMPLE_CONTENT)
+            .summary("워밍업")
+            .username("warmup")
+            .status("PUBLISHED")
+            .category("warmup")
+            .tags(new String[]{"warmup"})
+            .viewCount(0)
+            .commentEnabled(true)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .publishedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+}
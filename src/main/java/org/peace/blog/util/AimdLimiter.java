@@ -0,0 +1,95 @@
+package org.peace.blog.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD(Additive Increase / Multiplicative Decrease) 동시 실행 한도
+ * - 한도까지만 동시에 실행을 허용하고, 넘으면 즉시 거절 (대기열 없음)
+ * - 지연이 기준 이하로 끝나고 한도를 절반 이상 쓰고 있으면 한도 +1 (부하가 있을 때만 늘림)
+ * - 지연이 기준을 넘거나 실패하면 한도 × backoffRatio (DB가 느려지면 빠르게 줄임)
+ * - 한도는 [minLimit, maxLimit] 범위로 유지
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("minLimit은 1 이상, maxLimit 이하여야 합니다");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio는 0과 1 사이여야 합니다");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 실행 허가 요청
+     * @return 허가되면 true (완료 시 반드시 onSuccess/onDropped/onIgnore 중 하나 호출)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 정상 완료
+     * @param latencyNanos 실행 시간 (기준을 넘으면 과부하로 보고 한도를 줄임)
+     */
+    public void onSuccess(long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (current * 2 >= limit) {
+            increase();
+        }
+    }
+
+    /**
+     * 실패 (타임아웃, 커넥션 획득 실패 등) - 한도를 줄임
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        decrease();
+    }
+
+    /**
+     * 결과와 무관한 종료 (취소 등) - 한도 유지
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1);
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
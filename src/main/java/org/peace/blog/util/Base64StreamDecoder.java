@@ -0,0 +1,234 @@
+package org.peace.blog.util;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+
+/**
+ * 스트리밍 Base64 디코더
+ * - 요청 본문(Flux<DataBuffer>)을 청크 단위로 디코딩하여 전체 문자열을 힙에 올리지 않음
+ * - data URI 접두사(data:image/png;base64,)와 JSON 문자열 따옴표, 공백/줄바꿈을 허용
+ * - 표준/URL-safe 알파벳 모두 지원
+ * - 요청 1건당 인스턴스 1개를 사용 (상태를 가짐)
+ */
+public class Base64StreamDecoder {
+
+    private static final int[] DECODE_TABLE = new int[256];
+    private static final String DATA_URI_PREFIX = "data:";
+    private static final int MAX_HEADER_LENGTH = 256;
+    private static final int SKIP = -2;
+    private static final int INVALID = -1;
+
+    static {
+        Arrays.fill(DECODE_TABLE, INVALID);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = i;
+        }
+        DECODE_TABLE['-'] = 62;
+        DECODE_TABLE['_'] = 63;
+        for (char c : new char[]{' ', '\t', '\r', '\n', '"'}) {
+            DECODE_TABLE[c] = SKIP;
+        }
+    }
+
+    private final DataBufferFactory bufferFactory;
+    private final long maxDecodedBytes;
+
+    // data URI 헤더 처리 상태
+    private boolean headerDone;
+    private final StringBuilder header = new StringBuilder();
+    private String mimeType;
+
+    // 4글자 단위로 모이지 않은 나머지
+    private final int[] quad = new int[4];
+    private int quadLength;
+    private boolean padded;
+    private long decodedBytes;
+
+    public Base64StreamDecoder(DataBufferFactory bufferFactory, long maxDecodedBytes) {
+        this.bufferFactory = bufferFactory;
+        this.maxDecodedBytes = maxDecodedBytes;
+    }
+
+    /**
+     * data URI에서 읽은 MIME 타입 (없으면 null, 헤더를 읽은 뒤에만 유효)
+     */
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * 입력 스트림 디코딩 (입력 버퍼는 처리 후 해제됨)
+     * - 디코딩 크기가 maxDecodedBytes를 넘으면 413으로 즉시 중단
+     */
+    public Flux<DataBuffer> decode(Flux<DataBuffer> input) {
+        return input.<DataBuffer>handle((buffer, sink) -> {
+                try {
+                    DataBuffer decoded = decodeChunk(buffer);
+                    if (decoded != null) {
+                        sink.next(decoded);
+                    }
+                } catch (ResponseStatusException e) {
+                    sink.error(e);
+                } finally {
+                    DataBufferUtils.release(buffer);
+                }
+            })
+            .concatWith(Mono.fromCallable(this::finish));
+    }
+
+    private DataBuffer decodeChunk(DataBuffer buffer) {
+        int length = buffer.readableByteCount();
+        DataBuffer output = bufferFactory.allocateBuffer(length * 3 / 4 + 3);
+        boolean success = false;
+        try {
+            for (int i = 0; i < length; i++) {
+                int b = buffer.read() & 0xff;
+                if (!headerDone && consumeHeader(b, output)) {
+                    continue;
+                }
+                decodeChar(b, output);
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                DataBufferUtils.release(output);
+            }
+        }
+        if (output.readableByteCount() == 0) {
+            DataBufferUtils.release(output);
+            return null;
+        }
+        return output;
+    }
+
+    /**
+     * data URI 헤더 처리
+     * @return 헤더 처리 단계에서 소비했으면 true
+     */
+    private boolean consumeHeader(int b, DataBuffer output) {
+        if (header.length() == 0 && DECODE_TABLE[b] == SKIP) {
+            // 앞쪽 공백/따옴표
+            return true;
+        }
+        if (header.length() < DATA_URI_PREFIX.length()) {
+            header.append((char) b);
+            if (!DATA_URI_PREFIX.startsWith(header.toString())) {
+                // data URI가 아닌 순수 Base64: 모아둔 글자부터 디코딩
+                replayHeader(output);
+            }
+            return true;
+        }
+        if (b == ',') {
+            parseHeader(header.toString());
+            header.setLength(0);
+            headerDone = true;
+            return true;
+        }
+        header.append((char) b);
+        if (header.length() > MAX_HEADER_LENGTH) {
+            throw badRequest("data URI 헤더가 너무 깁니다");
+        }
+        return true;
+    }
+
+    private void replayHeader(DataBuffer output) {
+        headerDone = true;
+        for (int i = 0; i < header.length(); i++) {
+            decodeChar(header.charAt(i), output);
+        }
+        header.setLength(0);
+    }
+
+    private void parseHeader(String value) {
+        if (!value.endsWith(";base64")) {
+            throw badRequest("Base64 data URI 형식이 아닙니다");
+        }
+        int end = value.indexOf(';');
+        String mime = value.substring(DATA_URI_PREFIX.length(), end);
+        mimeType = mime.isEmpty() ? null : mime;
+    }
+
+    private void decodeChar(int b, DataBuffer output) {
+        int value = DECODE_TABLE[b];
+        if (value == SKIP) {
+            return;
+        }
+        if (b == '=') {
+            padded = true;
+            return;
+        }
+        if (value == INVALID) {
+            throw badRequest("올바르지 않은 Base64 문자입니다");
+        }
+        if (padded) {
+            throw badRequest("Base64 패딩 뒤에 데이터가 있습니다");
+        }
+        quad[quadLength++] = value;
+        if (quadLength == 4) {
+            writeBytes(output, 3);
+            quadLength = 0;
+        }
+    }
+
+    /**
+     * 스트림 종료 시 남은 글자 처리
+     */
+    private DataBuffer finish() {
+        if (!headerDone && header.length() >= DATA_URI_PREFIX.length()) {
+            throw badRequest("Base64 데이터가 없습니다");
+        }
+        DataBuffer output = bufferFactory.allocateBuffer(8);
+        boolean success = false;
+        try {
+            if (!headerDone) {
+                // "dat"처럼 data URI 접두사 일부로 끝난 짧은 순수 Base64
+                replayHeader(output);
+            }
+            if (quadLength == 1) {
+                throw badRequest("Base64 길이가 올바르지 않습니다");
+            }
+            if (quadLength > 1) {
+                writeBytes(output, quadLength - 1);
+                quadLength = 0;
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                DataBufferUtils.release(output);
+            }
+        }
+        if (output.readableByteCount() == 0) {
+            DataBufferUtils.release(output);
+            return null;
+        }
+        return output;
+    }
+
+    private void writeBytes(DataBuffer output, int count) {
+        decodedBytes += count;
+        if (decodedBytes > maxDecodedBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "이미지 크기가 제한(" + maxDecodedBytes + " bytes)을 초과했습니다");
+        }
+        int bits = (quad[0] << 18) | (quad[1] << 12) | (quadLength > 2 ? quad[2] << 6 : 0) | (quadLength > 3 ? quad[3] : 0);
+        output.write((byte) (bits >> 16));
+        if (count > 1) {
+            output.write((byte) (bits >> 8));
+        }
+        if (count > 2) {
+            output.write((byte) bits);
+        }
+    }
+
+    private static ResponseStatusException badRequest(String reason) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, reason);
+    }
+}
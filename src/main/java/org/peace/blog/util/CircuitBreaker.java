@@ -0,0 +1,91 @@
+package org.peace.blog.util;
+
+/**
+ * 연속 실패 기반 circuit breaker
+ * - CLOSED: 모두 허용, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDuration 동안 모두 거절, 이후 첫 요청 1건만 시험 실행 (HALF_OPEN)
+ * - HALF_OPEN: 시험 실행이 성공하면 CLOSED, 실패하면 다시 OPEN
+ * - 시각은 호출하는 쪽에서 전달 (System.nanoTime 기준, 테스트 용이)
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openNanos) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold는 1 이상이어야 합니다");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+    }
+
+    /**
+     * 실행 허가 요청
+     * @return 허가되면 true (완료 시 onSuccess/onFailure/onIgnore 중 하나 호출)
+     */
+    public boolean tryAcquire(long now) {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (now - openedAt < openNanos) {
+                        return false;
+                    }
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                    return true;
+                default:
+                    if (probeInFlight) {
+                        return false;
+                    }
+                    probeInFlight = true;
+                    return true;
+            }
+        }
+    }
+
+    public void onSuccess() {
+        if (state == State.CLOSED && consecutiveFailures == 0) {
+            return;
+        }
+        synchronized (this) {
+            consecutiveFailures = 0;
+            probeInFlight = false;
+            state = State.CLOSED;
+        }
+    }
+
+    public synchronized void onFailure(long now) {
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = now;
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * 성공/실패로 볼 수 없는 종료 (취소, 과부하 거절 등) - 시험 실행이었다면 다음 요청이 다시 시험
+     */
+    public synchronized void onIgnore() {
+        probeInFlight = false;
+    }
+
+    public State getState() {
+        return state;
+    }
+}
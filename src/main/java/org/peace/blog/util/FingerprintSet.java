@@ -0,0 +1,117 @@
+package org.peace.blog.util;
+
+/**
+ * 64비트 fingerprint 집합 (최근 추가된 것만 기억)
+ * - 문자열 대신 64비트 해시만 long 배열에 저장 (open addressing, 원소당 약 16바이트)
+ * - 세그먼트별 현재/이전 세대 2개를 두고, 현재 세대가 차면 이전 세대를 버리고 교체
+ *   (기억하는 원소 수는 capacity ~ 2 * capacity 사이, 오래된 것부터 잊음)
+ * - 세그먼트 단위 락이라 동시 호출 시 경합이 적음
+ * - 서로 다른 값의 fingerprint가 같을 확률은 원소 100만 개 기준 약 1e-7
+ */
+public class FingerprintSet {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * @param capacity 세대당 기억할 원소 수
+     */
+    public FingerprintSet(int capacity) {
+        int perSegment = Math.max(16, capacity / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    /**
+     * @return 새로 추가되었으면 true, 이미 있으면 false
+     */
+    public boolean add(long fingerprint) {
+        long value = fingerprint == 0 ? 1 : fingerprint;
+        return segmentOf(value).add(value);
+    }
+
+    public boolean contains(long fingerprint) {
+        long value = fingerprint == 0 ? 1 : fingerprint;
+        return segmentOf(value).contains(value);
+    }
+
+    /**
+     * 문자열의 64비트 fingerprint (FNV-1a + 비트 섞기)
+     */
+    public static long fingerprint(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        // murmur3 fmix64: 상위/하위 비트를 고르게 섞어 세그먼트/슬롯 분포를 맞춤
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private Segment segmentOf(long value) {
+        return segments[(int) (value >>> 60)];
+    }
+
+    private static final class Segment {
+
+        private final int maxSize;
+        private long[] current;
+        private long[] previous;
+        private int size;
+
+        Segment(int maxSize) {
+            this.maxSize = maxSize;
+            // 적재율 50% 이하 유지
+            int tableSize = Integer.highestOneBit(maxSize * 2 - 1) << 1;
+            this.current = new long[tableSize];
+            this.previous = new long[tableSize];
+        }
+
+        synchronized boolean add(long value) {
+            if (find(current, value) || find(previous, value)) {
+                return false;
+            }
+            if (size >= maxSize) {
+                previous = current;
+                current = new long[current.length];
+                size = 0;
+            }
+            insert(current, value);
+            size++;
+            return true;
+        }
+
+        synchronized boolean contains(long value) {
+            return find(current, value) || find(previous, value);
+        }
+
+        private static boolean find(long[] table, long value) {
+            int mask = table.length - 1;
+            for (int i = (int) value & mask; ; i = (i + 1) & mask) {
+                long slot = table[i];
+                if (slot == value) {
+                    return true;
+                }
+                if (slot == 0) {
+                    return false;
+                }
+            }
+        }
+
+        private static void insert(long[] table, long value) {
+            int mask = table.length - 1;
+            int i = (int) value & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = value;
+        }
+    }
+}
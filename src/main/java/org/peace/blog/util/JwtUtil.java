@@ -1,8 +1,10 @@
 package org.peace.blog.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Resource;
 import org.peace.blog.entity.User;
 import org.peace.blog.repository.UserRepository;
@@ -14,6 +16,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
@@ -30,29 +33,42 @@ public class JwtUtil {
     @Resource
     private UserRepository userRepository;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // 서명 키와 파서는 한 번만 생성하여 재사용
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
     
     /**
      * JWT 토큰 생성
+     * - 토큰마다 고유 ID(jti)를 부여하여 개별 폐기 가능
      */
     public Mono<String> generateToken(String username) {
+        return userRepository.findByUsername(username).map(this::generateToken);
+    }
 
-        return userRepository.findByUsername(username).map(user ->{
-            Map<String, Object> claims = new HashMap<>();
-            claims.put("userId", user.getId());
-            claims.put("username", username);
-            claims.put("role", user.getRole());
-            return Jwts.builder()
-                .claims(claims)
-                .subject(username)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
-                .compact();
-        });
-
+    /**
+     * 조회된 사용자로 JWT 토큰 생성 (DB 조회 없음)
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getId());
+        claims.put("username", user.getUsername());
+        claims.put("role", user.getRole());
+        return Jwts.builder()
+            .claims(claims)
+            .id(UUID.randomUUID().toString())
+            .subject(user.getUsername())
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + expiration))
+            .signWith(signingKey)
+            .compact();
     }
     
     /**
@@ -63,14 +79,22 @@ public class JwtUtil {
     }
     
     /**
-     * 토큰 유효성 검증
+     * 토큰 유효성 검증 (서명 + 만료)
      */
     public boolean validateToken(String token) {
+        return parseValidClaims(token) != null;
+    }
+
+    /**
+     * 서명과 만료를 검증한 Claims 반환
+     * @return 유효하지 않으면 null
+     */
+    public Claims parseValidClaims(String token) {
         try {
             Claims claims = extractClaims(token);
-            return !claims.getExpiration().before(new Date());
+            return claims.getExpiration().before(new Date()) ? null : claims;
         } catch (Exception e) {
-            return false;
+            return null;
         }
     }
     
@@ -78,9 +102,7 @@ public class JwtUtil {
      * Claims 추출
      */
     private Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
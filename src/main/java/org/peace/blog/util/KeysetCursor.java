@@ -0,0 +1,48 @@
+package org.peace.blog.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 커서 (작성일시 + id)
+ * - 클라이언트에는 내용을 알 수 없는 URL-safe 문자열로 전달
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * 커서가 가리키는 위치 (이 위치 다음부터 조회)
+     */
+    public record Position(LocalDateTime createdAt, long id) {
+    }
+
+    public static String encode(LocalDateTime createdAt, long id) {
+        String raw = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(createdAt) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static Position decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다");
+            }
+            return new Position(
+                LocalDateTime.parse(raw.substring(0, separator), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.peace.blog.util;
+
+import reactor.util.context.ContextView;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 1건의 구간별 처리 시간 (Server-Timing 헤더, 접근 로그)
+ * - ServerTimingFilter가 관리자 토큰이 있는 요청에만 만들어 Reactor Context에 넣음
+ * - 측정 지점은 Context에 없으면(null) 아무것도 하지 않으므로 평소 요청에는 비용이 없음
+ * - 쿼리가 병렬로 실행될 수 있으므로 값은 원자적으로 누적
+ */
+public final class RequestTimings {
+
+    /**
+     * Reactor Context / 인코더 hint 키
+     */
+    public static final String CONTEXT_KEY = RequestTimings.class.getName();
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong dbNanos = new AtomicLong();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicLong jwtNanos = new AtomicLong();
+    private final AtomicLong serializationNanos = new AtomicLong();
+    private final Map<String, Boolean> cacheHits = new ConcurrentHashMap<>();
+
+    /**
+     * Context에서 조회 (측정하지 않는 요청이면 null)
+     */
+    public static RequestTimings from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    public void recordQuery(long nanos) {
+        dbNanos.addAndGet(nanos);
+        queries.incrementAndGet();
+    }
+
+    public void recordJwt(long nanos) {
+        jwtNanos.addAndGet(nanos);
+    }
+
+    public void recordSerialization(long nanos) {
+        serializationNanos.addAndGet(nanos);
+    }
+
+    /**
+     * 캐시 적중 여부 기록 (같은 캐시를 여러 번 조회하면 마지막 결과)
+     */
+    public void recordCache(String name, boolean hit) {
+        cacheHits.put(name, hit);
+    }
+
+    /**
+     * Server-Timing 헤더 값
+     * 예: db;dur=12.345;desc="3 queries", jwt;dur=0.120, ser;dur=1.050, cache-posts;desc=hit, total;dur=15.200
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(128);
+        header.append("db;dur=").append(millis(dbNanos.get()))
+            .append(";desc=\"").append(queries.get()).append(" queries\"");
+        if (jwtNanos.get() > 0) {
+            header.append(", jwt;dur=").append(millis(jwtNanos.get()));
+        }
+        if (serializationNanos.get() > 0) {
+            header.append(", ser;dur=").append(millis(serializationNanos.get()));
+        }
+        cacheHits.forEach((name, hit) ->
+            header.append(", cache-").append(name).append(";desc=").append(hit ? "hit" : "miss"));
+        header.append(", total;dur=").append(millis(System.nanoTime() - startNanos));
+        return header.toString();
+    }
+
+    /**
+     * 접근 로그용 JSON 객체
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(160);
+        json.append("{\"dbMs\":").append(millis(dbNanos.get()))
+            .append(",\"queries\":").append(queries.get())
+            .append(",\"jwtMs\":").append(millis(jwtNanos.get()))
+            .append(",\"serializationMs\":").append(millis(serializationNanos.get()))
+            .append(",\"totalMs\":").append(millis(System.nanoTime() - startNanos));
+        if (!cacheHits.isEmpty()) {
+            json.append(",\"cache\":{");
+            String separator = "";
+            for (Map.Entry<String, Boolean> entry : cacheHits.entrySet()) {
+                json.append(separator).append('"').append(entry.getKey()).append("\":\"")
+                    .append(entry.getValue() ? "hit" : "miss").append('"');
+                separator = ",";
+            }
+            json.append('}');
+        }
+        return json.append('}').toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,45 @@
+package org.peace.blog.util;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합치는 single-flight
+ * - 진행 중인 조회가 있으면 새로 실행하지 않고 그 결과를 함께 받음
+ * - 조회가 끝나면(성공/실패/빈 결과) 즉시 제거되므로 결과를 캐시하지 않음
+ * - 공유 조회는 구독자 한 명이 취소해도 중단되지 않음 (다른 구독자가 기다리고 있을 수 있음)
+ * - 결과 객체는 모든 구독자가 공유하므로, 변경할 값이면 호출하는 쪽에서 복사해야 함
+ *
+ * @param <K> 조회 키 (쿼리 종류 + 파라미터, equals/hashCode 필요)
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키로 진행 중인 조회가 있으면 합류, 없으면 loader로 새로 실행
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> start(k, loader)));
+    }
+
+    /**
+     * 현재 진행 중인 조회 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<V> start(K key, Supplier<Mono<V>> loader) {
+        Mono<V>[] flight = new Mono[1];
+        flight[0] = Mono.defer(loader)
+            .doFinally(signal -> inFlight.remove(key, flight[0]))
+            .share();
+        return flight[0];
+    }
+}
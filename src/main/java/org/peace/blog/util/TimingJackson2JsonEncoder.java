@@ -0,0 +1,91 @@
+package org.peace.blog.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.peace.blog.filter.ServerTimingFilter;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 직렬화 시간을 RequestTimings에 기록하는 JSON 인코더
+ * - 측정 대상 요청이면 ServerTimingFilter의 응답에서 RequestTimings를 찾아 hint로 전달
+ * - 측정하지 않는 요청은 기본 인코더와 같은 경로
+ */
+public class TimingJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    public TimingJackson2JsonEncoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Map<String, Object> getEncodeHints(ResolvableType actualType, ResolvableType elementType,
+                                              MediaType mediaType, ServerHttpRequest request,
+                                              ServerHttpResponse response) {
+        Map<String, Object> hints = super.getEncodeHints(actualType, elementType, mediaType, request, response);
+        RequestTimings timings = ServerTimingFilter.timingsOf(response);
+        if (timings == null) {
+            return hints;
+        }
+        Map<String, Object> timedHints = new HashMap<>(hints);
+        timedHints.put(RequestTimings.CONTEXT_KEY, timings);
+        return timedHints;
+    }
+
+    /**
+     * 단일 값 (Mono 응답)
+     */
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        RequestTimings timings = timingsOf(hints);
+        if (timings == null) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        } finally {
+            timings.recordSerialization(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 스트림 (Flux 응답)
+     * - 요소 직렬화는 상위 요소 도착 시 동기적으로 실행되므로, 요소 도착부터 버퍼 방출까지를 직렬화 시간으로 기록
+     * - 배열 시작/끝 구분자처럼 요소 없이 방출되는 버퍼는 제외
+     */
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        RequestTimings timings = timingsOf(hints);
+        if (timings == null) {
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+        long[] elementStart = new long[1];
+        Publisher<?> input = inputStream instanceof Mono<?> mono
+            ? mono.doOnNext(value -> elementStart[0] = System.nanoTime())
+            : Flux.from(inputStream).doOnNext(value -> elementStart[0] = System.nanoTime());
+        return super.encode(input, bufferFactory, elementType, mimeType, hints)
+            .doOnNext(buffer -> {
+                if (elementStart[0] != 0) {
+                    timings.recordSerialization(System.nanoTime() - elementStart[0]);
+                    elementStart[0] = 0;
+                }
+            });
+    }
+
+    private static RequestTimings timingsOf(Map<String, Object> hints) {
+        return hints != null ? (RequestTimings) hints.get(RequestTimings.CONTEXT_KEY) : null;
+    }
+}
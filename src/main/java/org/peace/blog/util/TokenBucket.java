@@ -0,0 +1,54 @@
+package org.peace.blog.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free 토큰 버킷
+ * - GCRA(Generic Cell Rate Algorithm) 방식: "이론적 도착 시각(TAT)" 하나만 AtomicLong으로 관리
+ * - 락과 객체 할당 없이 CAS만으로 토큰을 소비
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;  // 토큰 1개가 채워지는 데 걸리는 시간
+    private final long burstToleranceNanos;    // 버스트 허용량 (capacity - 1) * interval
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param capacity 최대 토큰 수 (버스트 크기)
+     * @param refillPerMinute 분당 충전되는 토큰 수
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     */
+    public TokenBucket(int capacity, int refillPerMinute, long nowNanos) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("capacity와 refillPerMinute는 1 이상이어야 합니다");
+        }
+        this.emissionIntervalNanos = 60_000_000_000L / refillPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     * @return 0이면 허용, 양수면 다음 토큰까지 기다려야 하는 시간(나노초)
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = Math.max(tat, nowNanos);
+            long waitNanos = base - burstToleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태인지 (새 버킷과 동일하므로 제거해도 무방)
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
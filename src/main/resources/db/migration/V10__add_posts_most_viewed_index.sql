@@ -0,0 +1,6 @@
+-- 조회수 상위 발행 게시글 조회용 부분 인덱스 (기동 워밍업 시 인기 게시글 미리 읽기)
+-- 발행된 게시글만 포함하여 인덱스 크기와 초안/보관 게시글 조회수 변경 비용을 줄임
+-- (PostRepositoryQueryPlanTest가 findMostViewedPublished의 인덱스 사용 여부를 검증)
+CREATE INDEX IF NOT EXISTS idx_posts_published_view_count ON posts(view_count DESC) WHERE status = 'PUBLISHED';
+
+ANALYZE posts;
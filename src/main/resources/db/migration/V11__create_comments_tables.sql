@@ -0,0 +1,27 @@
+-- 댓글 테이블 생성
+-- 게시글별 작성 순서 조회(keyset 페이지네이션)는 (post_id, created_at, id) 인덱스만으로 처리
+
+CREATE TABLE IF NOT EXISTS comments (
+    id BIGSERIAL PRIMARY KEY,
+    post_id BIGINT NOT NULL REFERENCES posts(id) ON DELETE CASCADE,
+    username VARCHAR(50) NOT NULL,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_comments_post_created_at_id ON comments(post_id, created_at, id);
+
+-- 게시글별 댓글 수 (비정규화)
+-- posts 행이 아닌 별도 테이블에 주기적으로 한 번에 반영하여 댓글이 몰려도 게시글 행 UPDATE 경합이 없음
+CREATE TABLE IF NOT EXISTS post_comment_counts (
+    post_id BIGINT PRIMARY KEY REFERENCES posts(id) ON DELETE CASCADE,
+    comment_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 코멘트 추가
+COMMENT ON TABLE comments IS '게시글 댓글';
+COMMENT ON COLUMN comments.post_id IS '게시글 ID';
+COMMENT ON COLUMN comments.username IS '작성자 이름';
+COMMENT ON COLUMN comments.content IS '댓글 내용';
+COMMENT ON TABLE post_comment_counts IS '게시글별 댓글 수 (CommentCountBuffer가 일괄 반영)';
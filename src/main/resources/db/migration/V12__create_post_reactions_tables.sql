@@ -0,0 +1,26 @@
+-- 게시글 반응(좋아요 등) 테이블 생성
+
+-- 사용자별 반응 (중복 방지 기준, 같은 사용자의 같은 반응은 한 번만 집계)
+CREATE TABLE IF NOT EXISTS post_reactions (
+    post_id BIGINT NOT NULL REFERENCES posts(id) ON DELETE CASCADE,
+    reaction VARCHAR(20) NOT NULL,
+    user_key VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (post_id, reaction, user_key)
+);
+
+-- 반응 수 (게시글/반응별로 여러 행에 나누어 누적, 조회 시 합산)
+-- 노드마다 반영할 shard를 골라 쓰므로 인기 게시글도 한 행에 UPDATE가 몰리지 않음
+CREATE TABLE IF NOT EXISTS post_reaction_shards (
+    post_id BIGINT NOT NULL REFERENCES posts(id) ON DELETE CASCADE,
+    reaction VARCHAR(20) NOT NULL,
+    shard SMALLINT NOT NULL,
+    reaction_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (post_id, reaction, shard)
+);
+
+-- 코멘트 추가
+COMMENT ON TABLE post_reactions IS '사용자별 게시글 반응 (중복 방지)';
+COMMENT ON COLUMN post_reactions.user_key IS '사용자 식별 키 (클라이언트가 발급한 익명 ID 등)';
+COMMENT ON TABLE post_reaction_shards IS '게시글 반응 수 shard (ReactionCounter가 일괄 반영, 조회 시 합산)';
+COMMENT ON COLUMN post_reaction_shards.shard IS 'shard 번호 (0 ~ reactions.shards - 1)';
@@ -0,0 +1,13 @@
+-- 이메일 발송 대기열 점유 컬럼 추가 (여러 노드가 같은 메시지를 발송하지 않도록)
+
+ALTER TABLE email_outbox ADD COLUMN IF NOT EXISTS locked_at TIMESTAMP;
+
+-- 대기/발송 중 메시지 조회용 부분 인덱스 (오래된 SENDING은 다시 가져감)
+DROP INDEX IF EXISTS idx_email_outbox_pending;
+CREATE INDEX IF NOT EXISTS idx_email_outbox_pending ON email_outbox(id) WHERE status IN ('PENDING', 'SENDING');
+
+-- 최종 실패한 메시지 본문(인증번호 포함) 제거
+UPDATE email_outbox SET body = '' WHERE status = 'FAILED';
+
+COMMENT ON COLUMN email_outbox.status IS '상태 (PENDING, SENDING, FAILED) - 발송 완료 시 삭제, 최종 실패 시 본문 제거';
+COMMENT ON COLUMN email_outbox.locked_at IS '발송을 맡은 노드가 점유한 일시 (오래된 SENDING은 다른 노드가 다시 가져감)';
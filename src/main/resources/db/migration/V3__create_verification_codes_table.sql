@@ -0,0 +1,17 @@
+-- 인증번호 테이블 생성 (auth.verification.store=postgres 사용 시)
+-- 일회용 단기 데이터이므로 WAL을 남기지 않는 UNLOGGED 테이블로 생성
+
+CREATE UNLOGGED TABLE IF NOT EXISTS verification_codes (
+    username VARCHAR(50) PRIMARY KEY,
+    code VARCHAR(10) NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- 만료 정리용 인덱스
+CREATE INDEX IF NOT EXISTS idx_verification_codes_expires_at ON verification_codes(expires_at);
+
+-- 코멘트 추가
+COMMENT ON TABLE verification_codes IS '관리자 인증번호 (노드 간 공유)';
+COMMENT ON COLUMN verification_codes.username IS '관리자 username';
+COMMENT ON COLUMN verification_codes.code IS '인증번호';
+COMMENT ON COLUMN verification_codes.expires_at IS '만료 일시';
@@ -0,0 +1,5 @@
+-- 인증번호 검증 실패 횟수 컬럼 추가 (무차별 대입 차단용)
+
+ALTER TABLE verification_codes ADD COLUMN IF NOT EXISTS failed_attempts INTEGER NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN verification_codes.failed_attempts IS '검증 실패 횟수 (초과 시 인증번호 폐기)';
@@ -0,0 +1,24 @@
+-- 이메일 발송 대기열 테이블 생성 (email.outbox.durable=true 사용 시)
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    from_email VARCHAR(255),
+    to_email VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 재시작 시 미발송 메시지 복구용 인덱스
+CREATE INDEX IF NOT EXISTS idx_email_outbox_pending ON email_outbox(id) WHERE status = 'PENDING';
+
+-- 코멘트 추가
+COMMENT ON TABLE email_outbox IS '이메일 발송 대기열';
+COMMENT ON COLUMN email_outbox.status IS '상태 (PENDING, FAILED) - 발송 완료 시 삭제';
+COMMENT ON COLUMN email_outbox.attempts IS '발송 시도 횟수';
+COMMENT ON COLUMN email_outbox.last_error IS '마지막 실패 사유';
@@ -0,0 +1,27 @@
+-- JWT 폐기 테이블 생성
+
+-- 개별 토큰 폐기 (로그아웃)
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti VARCHAR(64) PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
+
+-- 사용자별 전체 폐기 (이 시각 이전에 발급된 토큰은 모두 무효)
+CREATE TABLE IF NOT EXISTS user_token_revocations (
+    username VARCHAR(50) PRIMARY KEY,
+    revoked_before TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_token_revocations_revoked_at ON user_token_revocations(revoked_at);
+
+-- 코멘트 추가
+COMMENT ON TABLE revoked_tokens IS '폐기된 JWT (jti 기준)';
+COMMENT ON COLUMN revoked_tokens.expires_at IS '토큰 만료 일시 (이후 삭제 가능)';
+COMMENT ON TABLE user_token_revocations IS '사용자별 JWT 전체 폐기';
+COMMENT ON COLUMN user_token_revocations.revoked_before IS '이 시각 이전에 발급된 토큰은 무효';
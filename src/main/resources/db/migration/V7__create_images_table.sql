@@ -0,0 +1,19 @@
+-- 이미지 메타데이터 테이블 생성
+-- 내용의 SHA-256 해시를 기본키로 사용하여 동일 이미지는 한 번만 저장
+
+CREATE TABLE IF NOT EXISTS images (
+    hash CHAR(64) PRIMARY KEY,
+    size BIGINT NOT NULL,
+    mime_type VARCHAR(100) NOT NULL,
+    width INTEGER,
+    height INTEGER,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 코멘트 추가
+COMMENT ON TABLE images IS '업로드 이미지 메타데이터 (content-addressed)';
+COMMENT ON COLUMN images.hash IS '이미지 내용의 SHA-256 (hex)';
+COMMENT ON COLUMN images.size IS '바이트 크기';
+COMMENT ON COLUMN images.mime_type IS 'MIME 타입';
+COMMENT ON COLUMN images.width IS '가로 픽셀';
+COMMENT ON COLUMN images.height IS '세로 픽셀';
@@ -0,0 +1,33 @@
+-- 이미지 리사이즈 변형(썸네일/반응형) 테이블 생성
+
+-- 변형 생성 작업 대기열 (재시작 후에도 유지)
+CREATE TABLE IF NOT EXISTS image_variant_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    image_hash CHAR(64) NOT NULL UNIQUE REFERENCES images(hash) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    locked_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 대기 작업 조회용 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_image_variant_jobs_pending ON image_variant_jobs(id) WHERE status IN ('PENDING', 'RUNNING');
+
+-- 생성된 변형
+CREATE TABLE IF NOT EXISTS image_variants (
+    image_hash CHAR(64) NOT NULL REFERENCES images(hash) ON DELETE CASCADE,
+    width INTEGER NOT NULL,
+    format VARCHAR(10) NOT NULL,
+    height INTEGER NOT NULL,
+    size BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (image_hash, width, format)
+);
+
+-- 코멘트 추가
+COMMENT ON TABLE image_variant_jobs IS '이미지 변형 생성 작업 대기열';
+COMMENT ON COLUMN image_variant_jobs.status IS '상태 (PENDING, RUNNING, DONE, FAILED)';
+COMMENT ON COLUMN image_variant_jobs.locked_at IS '작업 시작 일시 (오래된 RUNNING 작업은 재시도)';
+COMMENT ON TABLE image_variants IS '이미지 리사이즈 변형 (srcset용)';
+COMMENT ON COLUMN image_variants.format IS '이미지 포맷 (jpeg, png, webp)';
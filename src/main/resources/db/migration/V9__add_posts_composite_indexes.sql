@@ -0,0 +1,22 @@
+-- 게시글 목록 조회용 복합 인덱스
+-- 조회 조건 + 생성일시 역순 정렬을 인덱스 하나로 처리하여 정렬 단계 없이 읽음
+-- (PostRepositoryQueryPlanTest가 각 쿼리의 인덱스 사용 여부를 검증)
+
+-- findByStatusOrderByCreatedAtDesc / findRecentPublished
+CREATE INDEX IF NOT EXISTS idx_posts_status_created_at ON posts(status, created_at DESC);
+
+-- findByUsernameAndStatusOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_posts_username_status_created_at ON posts(username, status, created_at DESC);
+
+-- findByUsernameOrderByCreatedAtDesc (posts.username 외래키 CASCADE 삭제에도 사용)
+CREATE INDEX IF NOT EXISTS idx_posts_username_created_at ON posts(username, created_at DESC);
+
+-- findByCategoryOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_posts_category_created_at ON posts(category, created_at DESC);
+
+-- 위 복합 인덱스의 앞부분과 같은 단일 컬럼 인덱스 제거 (쓰기 비용 절감)
+DROP INDEX IF EXISTS idx_posts_username;
+DROP INDEX IF EXISTS idx_posts_status;
+DROP INDEX IF EXISTS idx_posts_category;
+
+ANALYZE posts;
@@ -2,17 +2,22 @@ package org.peace.blog.controller;
 
 import org.junit.jupiter.api.Test;
 import org.peace.blog.entity.Post;
+import org.peace.blog.model.PostChangeEvent;
 import org.peace.blog.service.PostService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
@@ -116,6 +121,37 @@ class PostControllerTest {
                 .expectStatus().isNoContent();
     }
     
+    @Test
+    void getChanges_ShouldStreamEventsAsServerSentEvents() {
+        // Given
+        PostChangeEvent event = PostChangeEvent.builder()
+                .type(PostChangeEvent.Type.PUBLISHED)
+                .postId(1L)
+                .status("PUBLISHED")
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        when(postService.getChanges())
+                .thenReturn(Flux.just(event));
+
+        // When
+        Flux<ServerSentEvent<PostChangeEvent>> body = webTestClient.get()
+                .uri("/posts/changes")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<PostChangeEvent>>() {})
+                .getResponseBody();
+
+        // Then: heartbeat 때문에 연결은 유지되므로 첫 이벤트만 확인
+        StepVerifier.create(body.take(1))
+                .assertNext(sse -> {
+                    assertThat(sse.event()).isEqualTo("PUBLISHED");
+                    assertThat(sse.data().getPostId()).isEqualTo(1L);
+                })
+                .verifyComplete();
+    }
+
     /**
      * Mock Post 객체 생성 헬퍼 메서드
      */
@@ -0,0 +1,258 @@
+package org.peace.blog.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.peace.blog.support.PostgresTestSchema;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostRepository 실행 계획 회귀 테스트
+ * - 대량 데이터를 넣은 PostgreSQL에서 각 쿼리를 EXPLAIN (ANALYZE, BUFFERS)로 실행
+ * - 기대 인덱스 사용, posts Seq Scan / 정렬 단계 없음, 읽은 버퍼 수 상한을 검증
+ * - 스키마/쿼리 변경으로 실행 계획이 나빠지면 빌드 실패 (Docker 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PostRepositoryQueryPlanTest {
+
+    private static final int USERS = 1_000;
+    private static final int POSTS = 100_000;
+
+    // 전체 조회는 의도적으로 전체 스캔 (페이지네이션 도입 전까지 계획 검증 제외)
+    // - findByStatusOrderByCreatedAtDesc: 유일한 호출(getPublishedPosts)이 LIMIT 없이 PUBLISHED(약 60%)를 모두 읽으므로 사실상 전체 조회
+    private static final Set<String> FULL_SCAN_QUERIES = Set.of(
+        "findAllByOrderByCreatedAtDesc",
+        "findByStatusOrderByCreatedAtDesc");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static ConnectionFactory connectionFactory;
+    private static PostRepository capturingRepository;
+    private static final List<CapturedStatement> captured = new CopyOnWriteArrayList<>();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.builder()
+            .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+            .option(ConnectionFactoryOptions.HOST, postgres.getHost())
+            .option(ConnectionFactoryOptions.PORT, postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+            .option(ConnectionFactoryOptions.DATABASE, postgres.getDatabaseName())
+            .option(ConnectionFactoryOptions.USER, postgres.getUsername())
+            .option(ConnectionFactoryOptions.PASSWORD, postgres.getPassword())
+            .build());
+        PostgresTestSchema.apply(connectionFactory)
+            .then(PostgresTestSchema.seed(connectionFactory, USERS, POSTS, 200))
+            .block(Duration.ofMinutes(5));
+        capturingRepository = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(capturing(connectionFactory)))
+            .getRepository(PostRepository.class);
+    }
+
+    /**
+     * PostRepository 쿼리별 기대 실행 계획
+     * - 각 메서드를 실제로 호출하여 Spring Data R2DBC가 보내는 SQL과 바인딩 값을 그대로 사용 (capture)
+     * - 값은 PostgresTestSchema.seed 분포 기준 (사용자 1명 = 0.1%, 카테고리 1개 = 1%), 상태는 애플리케이션이 실제로 보내는 값(PUBLISHED) 사용
+     * - 버퍼 상한은 인덱스 스캔의 행별 heap 접근을 포함한 값에 여유를 둔 것
+     */
+    static Stream<QueryPlanCase> queries() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return Stream.of(
+            new QueryPlanCase("findByUsernameOrderByCreatedAtDesc",
+                repository -> repository.findByUsernameOrderByCreatedAtDesc("user42"),
+                "idx_posts_username_created_at", true, 500),
+            new QueryPlanCase("findByCategoryOrderByCreatedAtDesc",
+                repository -> repository.findByCategoryOrderByCreatedAtDesc("category7"),
+                "idx_posts_category_created_at", true, 2_500),
+            new QueryPlanCase("findByUsernameAndStatusOrderByCreatedAtDesc",
+                repository -> repository.findByUsernameAndStatusOrderByCreatedAtDesc("user42", "PUBLISHED"),
+                "idx_posts_username_status_created_at", true, 300),
+            new QueryPlanCase("findMostViewedPublished",
+                repository -> repository.findMostViewedPublished(50),
+                "idx_posts_published_view_count", true, 200),
+            new QueryPlanCase("findRecentPublished",
+                repository -> repository.findRecentPublished(50),
+                "idx_posts_status_created_at", true, 200),
+            new QueryPlanCase("updateContent",
+                repository -> repository.updateContent(42L, "제목", "내용", "요약", "category7",
+                    new String[]{"tag1"}, true, now),
+                "posts_pkey", false, 200),
+            new QueryPlanCase("publish",
+                repository -> repository.publish(43L, now),
+                "posts_pkey", false, 200),
+            new QueryPlanCase("incrementViewCounts",
+                repository -> repository.incrementViewCounts(new Long[]{11L, 22L, 33L}, new Long[]{1L, 2L, 3L}),
+                "posts_pkey", false, 300));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void query_ShouldUseExpectedIndexWithinBufferBudget(QueryPlanCase query) throws Exception {
+        JsonNode plan = explain(capture(query.invocation()));
+        List<JsonNode> nodes = flatten(plan.path("Plan"));
+
+        Set<String> indexes = nodes.stream()
+            .map(node -> node.path("Index Name").asText(null))
+            .filter(name -> name != null)
+            .collect(Collectors.toSet());
+        assertThat(indexes).as("%s 사용 인덱스\n%s", query.method(), plan.toPrettyString())
+            .contains(query.expectedIndex());
+
+        assertThat(nodes).as("%s posts Seq Scan 없음\n%s", query.method(), plan.toPrettyString())
+            .noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                && "posts".equals(node.path("Relation Name").asText()));
+
+        if (query.ordered()) {
+            assertThat(nodes).as("%s 정렬 단계 없음 (인덱스 순서 사용)\n%s", query.method(), plan.toPrettyString())
+                .noneMatch(node -> "Sort".equals(node.path("Node Type").asText()));
+        }
+
+        JsonNode root = plan.path("Plan");
+        long buffers = root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong();
+        assertThat(buffers).as("%s 읽은 버퍼 수\n%s", query.method(), plan.toPrettyString())
+            .isLessThanOrEqualTo(query.maxBuffers());
+    }
+
+    /**
+     * PostRepository에 쿼리를 추가하면 여기에도 실행 계획 검증을 추가해야 함
+     */
+    @Test
+    void everyRepositoryQuery_ShouldHavePlanCase() {
+        Set<String> covered = queries().map(QueryPlanCase::method).collect(Collectors.toSet());
+        List<String> missing = new ArrayList<>();
+        for (Method method : PostRepository.class.getDeclaredMethods()) {
+            if (!covered.contains(method.getName()) && !FULL_SCAN_QUERIES.contains(method.getName())) {
+                missing.add(method.getName());
+            }
+        }
+        assertThat(missing).as("실행 계획 검증이 없는 쿼리").isEmpty();
+    }
+
+    /**
+     * 저장소 메서드가 보내는 SQL과 바인딩을 기록 (실행하지 않고 빈 결과 반환)
+     */
+    private static CapturedStatement capture(Function<PostRepository, Publisher<?>> invocation) {
+        captured.clear();
+        Flux.from(invocation.apply(capturingRepository)).then().block(Duration.ofSeconds(10));
+        assertThat(captured).as("저장소 메서드 1번 호출 = SQL 1개").hasSize(1);
+        return captured.get(0);
+    }
+
+    private JsonNode explain(CapturedStatement query) throws Exception {
+        String json = Mono.usingWhen(
+                connectionFactory.create(),
+                connection -> {
+                    Statement statement = connection
+                        .createStatement("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + query.sql());
+                    query.bindings().forEach(binding -> binding.accept(statement));
+                    return Flux.from(statement.execute())
+                        .flatMap(result -> result.map((row, metadata) -> row.get(0, String.class)))
+                        .collect(Collectors.joining());
+                },
+                Connection::close)
+            .block(Duration.ofSeconds(30));
+        return objectMapper.readTree(json).get(0);
+    }
+
+    /**
+     * createStatement를 가로채 SQL/바인딩만 기록하는 ConnectionFactory (그 밖의 호출은 실제 연결로 위임)
+     */
+    @SuppressWarnings("unchecked")
+    private static ConnectionFactory capturing(ConnectionFactory delegate) {
+        return proxy(ConnectionFactory.class, (proxy, method, args) -> {
+            Object result = invoke(delegate, method, args);
+            if (method.getName().equals("create")) {
+                return Mono.from((Publisher<Connection>) result).map(PostRepositoryQueryPlanTest::capturingConnection);
+            }
+            return result;
+        });
+    }
+
+    private static Connection capturingConnection(Connection delegate) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            if (!method.getName().equals("createStatement")) {
+                return invoke(delegate, method, args);
+            }
+            CapturedStatement statement = new CapturedStatement((String) args[0], new ArrayList<>());
+            captured.add(statement);
+            return proxy(Statement.class, (statementProxy, statementMethod, statementArgs) -> {
+                if (statementMethod.getDeclaringClass() == Object.class) {
+                    return invoke(statement, statementMethod, statementArgs);
+                }
+                if (statementMethod.getName().startsWith("bind")) {
+                    statement.bindings().add(target -> invoke(target, statementMethod, statementArgs));
+                    return statementProxy;
+                }
+                if (statementMethod.getName().equals("execute")) {
+                    return Flux.<Result>empty();
+                }
+                return statementMethod.getReturnType() == Statement.class ? statementProxy : null;
+            });
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<JsonNode> flatten(JsonNode node) {
+        List<JsonNode> nodes = new ArrayList<>();
+        nodes.add(node);
+        node.path("Plans").forEach(child -> nodes.addAll(flatten(child)));
+        return nodes;
+    }
+
+    record CapturedStatement(String sql, List<Consumer<Statement>> bindings) {
+    }
+
+    record QueryPlanCase(String method, Function<PostRepository, Publisher<?>> invocation, String expectedIndex,
+                         boolean ordered, long maxBuffers) {
+        @Override
+        public String toString() {
+            return method;
+        }
+    }
+}
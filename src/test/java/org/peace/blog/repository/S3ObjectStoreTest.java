@@ -0,0 +1,101 @@
+package org.peace.blog.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.peace.blog.config.ImageStorageProperties;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3ObjectStore 테스트
+ * 로컬 S3 호환 서버(MinIO)를 대상으로 단일/멀티파트 업로드 검증 (Docker 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3ObjectStoreTest {
+
+    private static final String BUCKET = "peace-blog-test";
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    private static S3ObjectStore objectStore;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        try (S3AsyncClient admin = S3AsyncClient.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .forcePathStyle(true)
+                .build()) {
+            admin.createBucket(request -> request.bucket(BUCKET)).join();
+        }
+
+        ImageStorageProperties properties = new ImageStorageProperties();
+        ImageStorageProperties.S3 s3 = properties.getS3();
+        s3.setBucket(BUCKET);
+        s3.setEndpoint(minio.getS3URL());
+        s3.setPathStyleAccess(true);
+        s3.setAccessKey(minio.getUserName());
+        s3.setSecretKey(minio.getPassword());
+        s3.setPartSize(DataSize.ofMegabytes(5));
+        s3.setMaxInFlightParts(2);
+        objectStore = new S3ObjectStore(properties);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        objectStore.shutdown();
+    }
+
+    @Test
+    void put_SmallFile_ShouldUploadInSingleRequest() throws Exception {
+        byte[] content = randomBytes(64 * 1024);
+        Path source = Files.write(tempDir.resolve("small"), content);
+
+        objectStore.put("objects/sm/al/small", source, content.length, "image/png").block();
+
+        Path fetched = objectStore.fetch("objects/sm/al/small", tempDir.resolve("small-fetched")).block();
+        assertThat(Files.readAllBytes(fetched)).isEqualTo(content);
+        assertThat(source).doesNotExist();
+    }
+
+    @Test
+    void put_LargeFile_ShouldUploadAsMultipart() throws Exception {
+        // 5MB 파트 3개 (마지막 파트는 1MB)
+        byte[] content = randomBytes(11 * 1024 * 1024);
+        Path source = Files.write(tempDir.resolve("large"), content);
+
+        objectStore.put("objects/la/rg/large", source, content.length, "image/jpeg").block();
+
+        Path fetched = objectStore.fetch("objects/la/rg/large", tempDir.resolve("large-fetched")).block();
+        assertThat(Files.readAllBytes(fetched)).isEqualTo(content);
+        assertThat(objectStore.localPath("objects/la/rg/large")).isEmpty();
+        assertThat(objectStore.redirectUri("objects/la/rg/large")).isPresent();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
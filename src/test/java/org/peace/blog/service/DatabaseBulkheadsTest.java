@@ -0,0 +1,62 @@
+package org.peace.blog.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.peace.blog.config.DatabaseBulkheadProperties;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DatabaseBulkheads 테스트
+ * - 실패 종류에 따른 쓰기 한도 변화 검증
+ */
+class DatabaseBulkheadsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseBulkheads bulkheads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheads = new DatabaseBulkheads(new DatabaseBulkheadProperties(), meterRegistry);
+    }
+
+    @Test
+    void write_ConstraintViolation_ShouldKeepLimit() {
+        // Given
+        double initial = writeLimit();
+
+        // When: 존재하지 않는 작성자 등 요청 때문에 난 제약 조건 위반을 반복
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(bulkheads.write(Mono.error(new DataIntegrityViolationException("fk_username"))))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+        }
+
+        // Then: 한도 유지
+        assertThat(writeLimit()).isEqualTo(initial);
+    }
+
+    @Test
+    void write_ConnectionFailure_ShouldDecreaseLimit() {
+        // Given
+        double initial = writeLimit();
+
+        // When: 커넥션 획득 실패
+        StepVerifier.create(bulkheads.write(Mono.error(new DataAccessResourceFailureException("connection"))))
+            .expectError(DataAccessResourceFailureException.class)
+            .verify();
+
+        // Then: 한도 감소
+        assertThat(writeLimit()).isLessThan(initial);
+    }
+
+    private double writeLimit() {
+        return meterRegistry.get("db.bulkhead.limit").tag("bulkhead", "write").gauge().value();
+    }
+}
@@ -0,0 +1,60 @@
+package org.peace.blog.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.peace.blog.config.EmailOutboxProperties;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmailOutbox 테스트
+ * 로컬 SMTP 서버(GreenMail)를 대상으로 비동기 발송 검증
+ */
+class EmailOutboxTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutbox emailOutbox;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        meterRegistry = new SimpleMeterRegistry();
+        emailOutbox = new EmailOutbox(mailSender, new EmailOutboxProperties(), null, meterRegistry);
+        emailOutbox.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailOutbox.shutdown();
+    }
+
+    @Test
+    void enqueue_ShouldDeliverMessagesAsynchronously() throws Exception {
+        // When: 대기열에 3건 추가
+        for (int i = 0; i < 3; i++) {
+            emailOutbox.enqueue("noreply@peace.org", "admin" + i + "@peace.org", "인증번호", "123456")
+                .block();
+        }
+
+        // Then: 워커가 모두 발송
+        assertThat(greenMail.waitForIncomingEmail(5_000, 3)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("인증번호");
+        assertThat(meterRegistry.counter("email.outbox.sent").count()).isEqualTo(3.0);
+        assertThat(emailOutbox.queuedCount()).isZero();
+    }
+}
@@ -0,0 +1,83 @@
+package org.peace.blog.service;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.peace.blog.config.TokenRevocationProperties;
+import org.peace.blog.support.PostgresTestSchema;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenRevocationService 테스트
+ * - 사용자 전체 폐기 기준 시각과 JWT 발급 시각(iat, 초 단위)의 경계 검증 (Docker 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenRevocationServiceTest {
+
+    private static final long TOKEN_EXPIRATION_MS = 10_800_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DatabaseClient databaseClient;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeAll
+    static void setUpSchema() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.builder()
+            .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+            .option(ConnectionFactoryOptions.HOST, postgres.getHost())
+            .option(ConnectionFactoryOptions.PORT, postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+            .option(ConnectionFactoryOptions.DATABASE, postgres.getDatabaseName())
+            .option(ConnectionFactoryOptions.USER, postgres.getUsername())
+            .option(ConnectionFactoryOptions.PASSWORD, postgres.getPassword())
+            .build());
+        PostgresTestSchema.apply(connectionFactory).block(Duration.ofMinutes(1));
+        databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(databaseClient, new TokenRevocationProperties(),
+            TOKEN_EXPIRATION_MS);
+    }
+
+    @Test
+    void revokeAllForUser_ShouldRevokeTokenIssuedInSameSecond() {
+        // Given: 폐기 직전에 발급된 토큰 (iat는 초 단위로 내림)
+        Date issuedAt = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        // When: 같은 초 안에 전체 폐기
+        tokenRevocationService.revokeAllForUser("user1").block(Duration.ofSeconds(10));
+
+        // Then: 같은 초에 발급된 토큰도 무효
+        assertThat(tokenRevocationService.isRevoked(null, "user1", issuedAt)).isTrue();
+    }
+
+    @Test
+    void revokeAllForUser_ShouldKeepTokensIssuedAfterCutoff() {
+        // Given
+        tokenRevocationService.revokeAllForUser("user2").block(Duration.ofSeconds(10));
+
+        // When: 폐기가 끝난 다음 초에 발급된 토큰
+        Date issuedAt = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1));
+
+        // Then: 유효, 다른 사용자 토큰도 영향 없음
+        assertThat(tokenRevocationService.isRevoked(null, "user2", issuedAt)).isFalse();
+        assertThat(tokenRevocationService.isRevoked(null, "user3", new Date(0))).isFalse();
+    }
+}
@@ -0,0 +1,129 @@
+package org.peace.blog.support;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StreamUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트/부하 테스트용 PostgreSQL 스키마 준비
+ * - users 테이블(마이그레이션에 없음)을 만든 뒤 db/migration의 V*.sql을 버전 순서로 실행
+ * - V2는 author_id가 있던 이전 스키마를 옮기는 스크립트이므로 새 DB에서는 건너뜀
+ * - generate_series로 대량 데이터를 DB 안에서 바로 생성 (애플리케이션 왕복 없음)
+ */
+public final class PostgresTestSchema {
+
+    private static final Pattern VERSION_PATTERN = Pattern.compile("V(\\d+)__.*\\.sql");
+    private static final int LEGACY_MIGRATION_VERSION = 2;
+
+    private static final String USERS_DDL = """
+        CREATE TABLE IF NOT EXISTS users (
+            id BIGSERIAL PRIMARY KEY,
+            username VARCHAR(255) NOT NULL UNIQUE,
+            passcode VARCHAR(255),
+            email VARCHAR(255),
+            role VARCHAR(20) DEFAULT 'ADMIN'
+        )
+        """;
+
+    private PostgresTestSchema() {
+    }
+
+    /**
+     * users 테이블 생성 + 마이그레이션 실행
+     */
+    public static Mono<Void> apply(ConnectionFactory connectionFactory) {
+        return execute(connectionFactory, Flux.concat(
+            Flux.just(USERS_DDL),
+            Flux.fromIterable(migrations()).map(PostgresTestSchema::read)));
+    }
+
+    /**
+     * 사용자/게시글 대량 생성 후 통계 갱신
+     * - 게시글은 사용자에게 고르게 나뉘고, 카테고리는 100개
+     * - 가장 오래된 10%는 ARCHIVED, 나머지는 PUBLISHED 2/3 / DRAFT 1/3
+     * - 생성일시는 1분 간격 (id 순서 = 생성 순서)
+     *
+     * @param userCount 사용자 수
+     * @param postCount 게시글 수
+     * @param contentLength 게시글 본문 길이 (글자)
+     */
+    public static Mono<Void> seed(ConnectionFactory connectionFactory, int userCount, int postCount, int contentLength) {
+        String users = """
+            INSERT INTO users (username, passcode, email, role)
+            SELECT 'user' || g, NULL, 'user' || g || '@peace.org', 'ADMIN'
+            FROM generate_series(1, %d) g
+            ON CONFLICT (username) DO NOTHING
+            """.formatted(userCount);
+        String posts = """
+            INSERT INTO posts (title, content, summary, username, status, category, tags,
+                               view_count, comment_enabled, created_at, updated_at, published_at)
+            SELECT '게시글 ' || g,
+                   repeat('가', %d),
+                   '요약 ' || g,
+                   'user' || (g %% %d + 1),
+                   CASE WHEN g <= %d THEN 'ARCHIVED' WHEN g %% 3 < 2 THEN 'PUBLISHED' ELSE 'DRAFT' END,
+                   'category' || (g %% 100),
+                   ARRAY['tag' || (g %% 50), 'tag' || (g %% 7)],
+                   (g * 7919) %% 10000,
+                   true,
+                   TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute',
+                   TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute',
+                   CASE WHEN g > %d AND g %% 3 < 2 THEN TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute' END
+            FROM generate_series(1, %d) g
+            """.formatted(contentLength, userCount, postCount / 10, postCount / 10, postCount);
+        return execute(connectionFactory, Flux.just(users, posts, "ANALYZE users", "ANALYZE posts"));
+    }
+
+    private static Mono<Void> execute(ConnectionFactory connectionFactory, Flux<String> statements) {
+        return Mono.usingWhen(
+            connectionFactory.create(),
+            connection -> statements
+                .concatMap(sql -> Flux.from(connection.createStatement(sql).execute())
+                    .concatMap(Result::getRowsUpdated))
+                .then(),
+            Connection::close);
+    }
+
+    private static List<Resource> migrations() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:db/migration/V*.sql");
+            return Arrays.stream(resources)
+                .filter(resource -> version(resource) != LEGACY_MIGRATION_VERSION)
+                .sorted(Comparator.comparingInt(PostgresTestSchema::version))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int version(Resource resource) {
+        Matcher matcher = VERSION_PATTERN.matcher(resource.getFilename());
+        if (!matcher.matches()) {
+            throw new IllegalStateException("마이그레이션 파일 이름이 올바르지 않습니다: " + resource.getFilename());
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static String read(Resource resource) {
+        try {
+            return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.peace.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AimdLimiter 테스트
+ */
+class AimdLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void tryAcquire_OverLimit_ShouldReject() {
+        // Given: 한도 2
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, THRESHOLD);
+
+        // When & Then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void onSuccess_FastUnderLoad_ShouldIncreaseLimit() {
+        // Given: 한도를 모두 사용 중
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, THRESHOLD);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // When: 기준보다 빨리 완료
+        limiter.onSuccess(FAST);
+
+        // Then: 한도 +1
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void onSuccess_Idle_ShouldKeepLimit() {
+        // Given: 한도 10 중 1개만 사용
+        AimdLimiter limiter = new AimdLimiter(10, 1, 20, 0.5, THRESHOLD);
+        limiter.tryAcquire();
+
+        // When
+        limiter.onSuccess(FAST);
+
+        // Then: 부하가 없으면 늘리지 않음
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void onSuccess_Slow_ShouldDecreaseLimit() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(10, 1, 20, 0.5, THRESHOLD);
+        limiter.tryAcquire();
+
+        // When: 기준보다 느리게 완료
+        limiter.onSuccess(SLOW);
+
+        // Then: 한도 × 0.5
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void onDropped_Repeatedly_ShouldNotGoBelowMinLimit() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(8, 2, 20, 0.5, THRESHOLD);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
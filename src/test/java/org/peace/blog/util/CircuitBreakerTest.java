@@ -0,0 +1,78 @@
+package org.peace.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CircuitBreaker 테스트
+ */
+class CircuitBreakerTest {
+
+    private static final long OPEN_DURATION = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    void onFailure_ReachingThreshold_ShouldOpen() {
+        // Given: 연속 3회 실패 시 OPEN
+        CircuitBreaker breaker = new CircuitBreaker(3, OPEN_DURATION);
+
+        // When
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+        assertThat(breaker.tryAcquire(0)).isTrue();
+        breaker.onFailure(0);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(OPEN_DURATION - 1)).isFalse();
+    }
+
+    @Test
+    void onSuccess_BeforeThreshold_ShouldResetFailures() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(2, OPEN_DURATION);
+        breaker.onFailure(0);
+
+        // When: 중간에 성공하면 연속 실패가 초기화됨
+        breaker.onSuccess();
+        breaker.onFailure(0);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void tryAcquire_AfterOpenDuration_ShouldAllowSingleProbe() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(1, OPEN_DURATION);
+        breaker.onFailure(0);
+
+        // When & Then: 시험 실행은 1건만
+        assertThat(breaker.tryAcquire(OPEN_DURATION)).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(OPEN_DURATION)).isFalse();
+
+        // 시험 성공 시 CLOSED
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire(OPEN_DURATION)).isTrue();
+    }
+
+    @Test
+    void onFailure_DuringProbe_ShouldReopen() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(1, OPEN_DURATION);
+        breaker.onFailure(0);
+        breaker.tryAcquire(OPEN_DURATION);
+
+        // When
+        breaker.onFailure(OPEN_DURATION);
+
+        // Then: 다시 openDuration 동안 거절
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(OPEN_DURATION * 2 - 1)).isFalse();
+        assertThat(breaker.tryAcquire(OPEN_DURATION * 2)).isTrue();
+    }
+}
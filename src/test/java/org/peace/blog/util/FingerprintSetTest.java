@@ -0,0 +1,56 @@
+package org.peace.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FingerprintSet 테스트
+ */
+class FingerprintSetTest {
+
+    @Test
+    void add_SameValueTwice_ShouldReportDuplicate() {
+        FingerprintSet set = new FingerprintSet(1_000);
+        long fingerprint = FingerprintSet.fingerprint("1:LIKE:user-a");
+
+        assertThat(set.add(fingerprint)).isTrue();
+        assertThat(set.add(fingerprint)).isFalse();
+        assertThat(set.contains(FingerprintSet.fingerprint("1:LIKE:user-b"))).isFalse();
+    }
+
+    @Test
+    void add_ZeroFingerprint_ShouldBeStored() {
+        // 0은 빈 슬롯 표시이므로 내부적으로 다른 값으로 바꿔 저장
+        FingerprintSet set = new FingerprintSet(1_000);
+
+        assertThat(set.add(0L)).isTrue();
+        assertThat(set.add(0L)).isFalse();
+    }
+
+    @Test
+    void add_BeyondTwoGenerations_ShouldForgetOldestOnly() {
+        // Given: 세그먼트당 세대 크기 16 (최소값)
+        FingerprintSet set = new FingerprintSet(16);
+        long first = FingerprintSet.fingerprint("first");
+        set.add(first);
+
+        // When: 전체 세그먼트를 두 세대 이상 채움
+        for (int i = 0; i < 16 * 16 * 6; i++) {
+            set.add(FingerprintSet.fingerprint("value-" + i));
+        }
+        long recent = FingerprintSet.fingerprint("recent");
+        set.add(recent);
+
+        // Then: 최근 값은 기억하고 가장 오래된 값은 잊음
+        assertThat(set.contains(recent)).isTrue();
+        assertThat(set.contains(first)).isFalse();
+    }
+
+    @Test
+    void fingerprint_ShouldBeStable() {
+        assertThat(FingerprintSet.fingerprint("42:LIKE:user"))
+            .isEqualTo(FingerprintSet.fingerprint("42:LIKE:user"))
+            .isNotEqualTo(FingerprintSet.fingerprint("42:LOVE:user"));
+    }
+}
@@ -0,0 +1,42 @@
+package org.peace.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KeysetCursor 테스트
+ */
+class KeysetCursorTest {
+
+    @Test
+    void decode_ShouldReturnEncodedPosition() {
+        // Given: DB TIMESTAMP 정밀도(마이크로초)와 초가 0인 경우 모두
+        LocalDateTime withMicros = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+        LocalDateTime withoutSeconds = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+        // When & Then
+        assertThat(KeysetCursor.decode(KeysetCursor.encode(withMicros, 42L)))
+            .isEqualTo(new KeysetCursor.Position(withMicros, 42L));
+        assertThat(KeysetCursor.decode(KeysetCursor.encode(withoutSeconds, 7L)))
+            .isEqualTo(new KeysetCursor.Position(withoutSeconds, 7L));
+    }
+
+    @Test
+    void encode_ShouldBeUrlSafe() {
+        String cursor = KeysetCursor.encode(LocalDateTime.of(2024, 5, 1, 12, 30, 15), Long.MAX_VALUE);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decode_WithMalformedCursor_ShouldThrowIllegalArgument() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.encode(LocalDateTime.of(2024, 5, 1, 12, 30, 15), 1L).substring(3)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
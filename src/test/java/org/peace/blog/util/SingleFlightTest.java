@@ -0,0 +1,93 @@
+package org.peace.blog.util;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SingleFlight 테스트
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_ConcurrentSameKey_ShouldLoadOnce() {
+        // Given: 완료되지 않은 조회
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> result = Sinks.one();
+
+        // When: 같은 키로 두 번 조회
+        Mono<String> first = singleFlight.execute("post:1", () -> {
+            loads.incrementAndGet();
+            return result.asMono();
+        });
+        Mono<String> second = singleFlight.execute("post:1", () -> {
+            loads.incrementAndGet();
+            return result.asMono();
+        });
+        StepVerifier firstVerifier = StepVerifier.create(first).expectNext("value").expectComplete().verifyLater();
+        StepVerifier secondVerifier = StepVerifier.create(second).expectNext("value").expectComplete().verifyLater();
+        result.tryEmitValue("value");
+
+        // Then: 로드는 한 번, 결과는 둘 다 받음
+        firstVerifier.verify();
+        secondVerifier.verify();
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_AfterCompletion_ShouldLoadAgain() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When: 순차 조회 (결과를 캐시하지 않음)
+        singleFlight.execute("post:1", () -> Mono.fromCallable(() -> "v" + loads.incrementAndGet())).block();
+        String second = singleFlight.execute("post:1", () -> Mono.fromCallable(() -> "v" + loads.incrementAndGet())).block();
+
+        // Then
+        assertThat(second).isEqualTo("v2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void execute_DifferentKeys_ShouldLoadSeparately() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> result = Sinks.one();
+
+        // When
+        StepVerifier first = StepVerifier.create(singleFlight.execute("post:1", () -> {
+            loads.incrementAndGet();
+            return result.asMono();
+        })).expectNext("value").expectComplete().verifyLater();
+        StepVerifier second = StepVerifier.create(singleFlight.execute("post:2", () -> {
+            loads.incrementAndGet();
+            return result.asMono();
+        })).expectNext("value").expectComplete().verifyLater();
+        result.tryEmitValue("value");
+
+        // Then
+        first.verify();
+        second.verify();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void execute_WhenLoadFails_ShouldPropagateAndRelease() {
+        // When & Then: 실패도 공유되고, 이후 조회는 다시 실행
+        StepVerifier.create(singleFlight.execute("post:1", () -> Mono.error(new IllegalStateException("db down"))))
+            .expectError(IllegalStateException.class)
+            .verify();
+        assertThat(singleFlight.inFlightCount()).isZero();
+        StepVerifier.create(singleFlight.execute("post:1", () -> Mono.just("value")))
+            .expectNext("value")
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,53 @@
+package org.peace.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenBucket 테스트
+ */
+class TokenBucketTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryConsume_WithinCapacity_ShouldAllowBurst() {
+        // Given: 버스트 3, 분당 60개 (1초에 1개)
+        TokenBucket bucket = new TokenBucket(3, 60, 0);
+
+        // When & Then
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isPositive();
+    }
+
+    @Test
+    void tryConsume_WhenExhausted_ShouldReturnWaitUntilNextToken() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 60, 0);
+        bucket.tryConsume(0);
+
+        // When
+        long wait = bucket.tryConsume(0);
+
+        // Then: 1초 후 다시 허용
+        assertThat(wait).isEqualTo(ONE_SECOND);
+        assertThat(bucket.tryConsume(ONE_SECOND)).isZero();
+    }
+
+    @Test
+    void isFull_AfterRefill_ShouldBeTrue() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 60, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // When & Then
+        assertThat(bucket.isFull(ONE_SECOND)).isFalse();
+        assertThat(bucket.isFull(2 * ONE_SECOND)).isTrue();
+    }
+}